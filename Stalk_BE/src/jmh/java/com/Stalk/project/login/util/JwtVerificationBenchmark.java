@@ -0,0 +1,79 @@
+package com.Stalk.project.login.util;
+
+import io.jsonwebtoken.Jwts;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtAuthenticationFilter 의 토큰 검증 경로 비교
+ *
+ * <ul>
+ *   <li>legacyTripleParse: 변경 전 경로 (validateToken / getUserIdFromToken / getRoleFromToken,
+ *       매번 파서를 새로 만들어 같은 토큰을 3번 서명 검증)</li>
+ *   <li>singleParse: {@link JwtUtil#parseOrNull(String)} 1회 검증</li>
+ *   <li>cachedVerify: {@link JwtVerificationCache#verify(String)}, 같은 토큰의 반복 요청 (캐시 적중)</li>
+ * </ul>
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+  private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+  private String secret;
+  private String token;
+  private JwtUtil jwtUtil;
+  private JwtVerificationCache cache;
+
+  @Setup
+  public void setUp() {
+    // HS512 용 64바이트 키 (jwt.secret 과 같은 Base64 형식)
+    byte[] key = new byte[64];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = (byte) (i * 31 + 7);
+    }
+    secret = Base64.getEncoder().encodeToString(key);
+
+    jwtUtil = new JwtUtil(secret, ONE_HOUR, ONE_HOUR);
+    cache = new JwtVerificationCache(jwtUtil, 10_000);
+    token = jwtUtil.createAccessToken("benchmark-user", "USER");
+    cache.verify(token);
+  }
+
+  @Benchmark
+  @SuppressWarnings("deprecation")
+  public void legacyTripleParse(Blackhole bh) {
+    boolean valid;
+    try {
+      Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
+      valid = true;
+    } catch (Exception e) {
+      valid = false;
+    }
+    bh.consume(valid);
+    bh.consume(Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().getSubject());
+    bh.consume(Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody()
+        .get("role", String.class));
+  }
+
+  @Benchmark
+  public JwtPrincipal singleParse() {
+    return jwtUtil.parseOrNull(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal cachedVerify() {
+    return cache.verify(token);
+  }
+}
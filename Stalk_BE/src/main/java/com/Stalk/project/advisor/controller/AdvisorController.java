@@ -1,6 +1,5 @@
 package com.Stalk.project.advisor.controller;
 
-import com.Stalk.project.advisor.dao.AdvisorMapper;
 import com.Stalk.project.advisor.dto.in.AdvisorBlockedTimesRequestDto;
 import com.Stalk.project.advisor.dto.in.AdvisorListRequestDto;
 import com.Stalk.project.advisor.dto.out.AdvisorBlockedTimesResponseDto;
@@ -9,18 +8,25 @@ import com.Stalk.project.advisor.dto.out.AdvisorDetailResponseDto;
 import com.Stalk.project.advisor.dto.out.AdvisorResponseDto;
 import com.Stalk.project.advisor.dto.out.AvailableTimeSlotsResponseDto;
 import com.Stalk.project.advisor.service.AdvisorService;
+import com.Stalk.project.advisor.service.ApprovedAdvisorRegistry;
 import com.Stalk.project.exception.BaseException;
 import com.Stalk.project.response.BaseResponse;
 import com.Stalk.project.response.BaseResponseStatus;
 import com.Stalk.project.util.CursorPage;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -30,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/advisors")
@@ -37,15 +44,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdvisorController {
 
   private final AdvisorService advisorService;
-  private final AdvisorMapper advisorMapper;
+  private final ApprovedAdvisorRegistry approvedAdvisorRegistry;
+  private final ObjectMapper objectMapper;
 
   // 1. 일반 목록 조회 (파라미터 없음)
   @GetMapping
   @Operation(summary = "어드바이저 목록 조회")
   public BaseResponse<CursorPage<AdvisorResponseDto>> getAdvisorList(
       AdvisorListRequestDto requestDto) {
-    CursorPage<AdvisorResponseDto> result = advisorService.getAdvisorList(requestDto);
-    return new BaseResponse<>(result);
+    try {
+      CursorPage<AdvisorResponseDto> result = advisorService.getAdvisorList(requestDto);
+      return new BaseResponse<>(result);
+    } catch (BaseException exception) {
+      return new BaseResponse<>(exception.getStatus());
+    }
   }
 
   // 2. 구체적인 경로들을 먼저 배치! (중요!)
@@ -123,6 +135,59 @@ public class AdvisorController {
     }
   }
 
+  /**
+   * 전문가 기간별 예약 가능 시간 조회
+   * <p>
+   * 응답 형식은 BaseResponse 와 같고 result 는 날짜별 {@link AvailableTimeSlotsResponseDto} 배열이며,
+   * 한 달 치를 메모리에 모으지 않도록 하루씩 직렬화하여 내려보낸다.
+   */
+  @GetMapping("/{advisor_id}/available-times/range")
+  @Operation(summary = "전문가 기간별 예약 가능 시간 조회",
+      description = "시작일~종료일(최대 42일)의 날짜별 예약 가능한 시간대를 한 번에 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "예약 가능 시간 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 (기간 오류 등)"),
+      @ApiResponse(responseCode = "404", description = "존재하지 않는 전문가 ID"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<?> getAvailableTimeSlotsRange(
+      @PathVariable("advisor_id") @Parameter(description = "전문가 ID", example = "42") Long advisorId,
+      @RequestParam("startDate")
+      @Parameter(description = "조회 시작 날짜 (YYYY-MM-DD 형식)", example = "2025-07-24")
+      @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+      @RequestParam("endDate")
+      @Parameter(description = "조회 종료 날짜 (YYYY-MM-DD 형식)", example = "2025-08-31")
+      @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+
+    Stream<AvailableTimeSlotsResponseDto> days;
+    try {
+      days = advisorService.getAvailableTimeSlotsRange(advisorId, startDate, endDate);
+    } catch (BaseException exception) {
+      return ResponseEntity.ok(new BaseResponse<>(exception.getStatus()));
+    }
+
+    StreamingResponseBody body = outputStream -> {
+      try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+        generator.writeStartObject();
+        generator.writeStringField("httpStatus", HttpStatus.OK.name());
+        generator.writeBooleanField("isSuccess", true);
+        generator.writeStringField("message", BaseResponseStatus.SUCCESS.getMessage());
+        generator.writeNumberField("code", BaseResponseStatus.SUCCESS.getCode());
+        generator.writeArrayFieldStart("result");
+        for (Iterator<AvailableTimeSlotsResponseDto> it = days.iterator(); it.hasNext(); ) {
+          objectMapper.writeValue(generator, it.next());
+          generator.flush();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+      }
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(body);
+  }
+
   // 3. 가장 일반적인 패턴은 마지막에! (중요!)
 
   /**
@@ -158,6 +223,6 @@ public class AdvisorController {
    * 사용자가 전문가인지 확인
    */
   private boolean isAdvisor(Long userId) {
-    return advisorMapper.isAdvisorExistsAndApproved(userId);
+    return approvedAdvisorRegistry.isApproved(userId);
   }
 }
\ No newline at end of file
@@ -3,8 +3,7 @@ package com.Stalk.project.advisor.dao;
 import com.Stalk.project.advisor.dto.in.AdvisorListRequestDto;
 import com.Stalk.project.advisor.dto.out.AdvisorDetailResponseDto;
 import com.Stalk.project.advisor.dto.out.AdvisorResponseDto;
-import com.Stalk.project.advisor.dto.out.BlockedTimeDto;
-import com.Stalk.project.advisor.dto.out.ReservedTimeDto;
+import com.Stalk.project.advisor.dto.out.AvailabilityTimeRangeDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -36,16 +35,18 @@ public interface AdvisorMapper {
   int countReviewsByAdvisorId(@Param("advisorId") Long advisorId);
 
   /**
-   * 특정 날짜의 전문가 차단 시간 조회
+   * 특정 날짜의 전문가 차단 시간 + 예약 시간 조회 (예약 가능 시간 API용, 단일 쿼리)
    */
-  List<BlockedTimeDto> getBlockedTimes(@Param("advisorId") Long advisorId,
+  List<AvailabilityTimeRangeDto> getAvailabilityTimeRanges(@Param("advisorId") Long advisorId,
       @Param("date") LocalDate date);
 
   /**
-   * 특정 날짜의 전문가 예약 시간 조회
+   * 기간 내 전문가 차단 시간 + 예약 시간 조회 (기간별 예약 가능 시간 API용, 단일 쿼리)
    */
-  List<ReservedTimeDto> getReservedTimes(@Param("advisorId") Long advisorId,
-      @Param("date") LocalDate date);
+  List<AvailabilityTimeRangeDto> getAvailabilityTimeRangesBetween(
+      @Param("advisorId") Long advisorId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
 
   /**
    * 전문가의 특정 날짜 차단 시간 조회
@@ -75,6 +76,16 @@ public interface AdvisorMapper {
    */
   boolean isAdvisorExistsAndApproved(@Param("advisorId") Long advisorId);
 
+  /**
+   * 승인된 전문가 ID 전체 조회 (ApprovedAdvisorRegistry 스냅샷용)
+   */
+  List<Long> findApprovedAdvisorIds();
+
+  /**
+   * 전체 전문가 평점 집계 재계산
+   */
+  int recomputeRatingAggregates();
+
   List<AdvisorDetailResponseDto.CareerDto> findAdvisorCareers(@Param("advisorId") Long advisorId);
   List<AdvisorDetailResponseDto.CertificationDto> findAdvisorCertificates(@Param("advisorId") Long advisorId);
   List<AdvisorDetailResponseDto.ReviewDto> findAdvisorReviewsWithProfile(@Param("advisorId") Long advisorId);
@@ -2,6 +2,7 @@ package com.Stalk.project.advisor.dto.in;
 
 import com.Stalk.project.util.PageRequestDto;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -19,8 +20,27 @@ public class AdvisorListRequestDto extends PageRequestDto {
     @Schema(description = "정렬 기준 (REVIEW_COUNT: 리뷰수순, RATING: 평점순)", example = "REVIEW_COUNT")
     private SortBy sortBy;
 
-    @Schema(description = "커서 (다음 페이지 조회용)", example = "0")
-    private Long cursor;
+    @Schema(description = "커서 (이전 응답의 nextCursor 값, 첫 페이지는 생략)")
+    private String cursor;
+
+    // 커서 디코딩 결과 (정렬 값 + advisor_id), 서비스에서만 설정
+    @Schema(hidden = true)
+    @Setter(AccessLevel.NONE)
+    private Long cursorId;
+
+    @Schema(hidden = true)
+    @Setter(AccessLevel.NONE)
+    private Integer cursorReviewCount;
+
+    @Schema(hidden = true)
+    @Setter(AccessLevel.NONE)
+    private Double cursorRating;
+
+    public void applyDecodedCursor(Long cursorId, Integer cursorReviewCount, Double cursorRating) {
+        this.cursorId = cursorId;
+        this.cursorReviewCount = cursorReviewCount;
+        this.cursorRating = cursorRating;
+    }
 
     @Override
     public int getPageSize() {
@@ -19,6 +19,10 @@ public class AdvisorResponseDto {
     @Schema(description = "프로필 이미지 URL", example = "https://cdn.domain.com/img/user27.jpg")
     private String profileImageUrl;
 
+    @Schema(description = "프로필 썸네일 URL (목록용, 썸네일이 없는 이미지는 원본 URL)",
+        example = "/uploads/3f/a2/3fa2...e9_thumb.jpg")
+    private String profileThumbnailUrl;
+
     @Schema(description = "선호 투자 성향", example = "LONG")
     private String preferredStyle;
 
@@ -0,0 +1,26 @@
+package com.Stalk.project.advisor.dto.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 가능 시간 계산용 시간 범위 (차단 시간 + 예약 시간을 한 번에 조회)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityTimeRangeDto {
+
+    public static final String TYPE_BLOCKED = "BLOCKED";
+    public static final String TYPE_RESERVED = "RESERVED";
+
+    private LocalDate date;
+    private String type;          // BLOCKED, RESERVED
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
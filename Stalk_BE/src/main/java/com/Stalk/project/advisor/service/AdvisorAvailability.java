@@ -0,0 +1,90 @@
+package com.Stalk.project.advisor.service;
+
+import com.Stalk.project.advisor.dto.out.AvailabilityTimeRangeDto;
+import com.Stalk.project.advisor.dto.out.AvailableTimeSlotsResponseDto;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루 운영시간(09:00 ~ 20:00, 1시간 간격 12개 슬롯)의 차단/예약 여부를 비트마스크로 표현
+ * <p>
+ * i번째 비트 = (09 + i)시 슬롯
+ */
+public record AdvisorAvailability(int blockedMask, int reservedMask) {
+
+  public static final int FIRST_SLOT_HOUR = 9;
+  public static final int SLOT_COUNT = 12;
+
+  public static final AdvisorAvailability EMPTY = new AdvisorAvailability(0, 0);
+
+  private static final LocalTime[] SLOT_TIMES = new LocalTime[SLOT_COUNT];
+  private static final String[] SLOT_LABELS = new String[SLOT_COUNT];
+
+  static {
+    for (int i = 0; i < SLOT_COUNT; i++) {
+      SLOT_TIMES[i] = LocalTime.of(FIRST_SLOT_HOUR + i, 0);
+      SLOT_LABELS[i] = SLOT_TIMES[i].toString(); // "09:00" 형식
+    }
+  }
+
+  /**
+   * 차단/예약 시간 범위 목록을 비트마스크로 변환
+   */
+  public static AdvisorAvailability from(List<AvailabilityTimeRangeDto> ranges) {
+    int blocked = 0;
+    int reserved = 0;
+    for (AvailabilityTimeRangeDto range : ranges) {
+      int mask = toMask(range.getStartTime(), range.getEndTime());
+      if (AvailabilityTimeRangeDto.TYPE_BLOCKED.equals(range.getType())) {
+        blocked |= mask;
+      } else {
+        reserved |= mask;
+      }
+    }
+    return blocked == 0 && reserved == 0 ? EMPTY : new AdvisorAvailability(blocked, reserved);
+  }
+
+  /**
+   * [startTime, endTime) 범위에 포함되는 슬롯 비트 계산
+   */
+  static int toMask(LocalTime startTime, LocalTime endTime) {
+    if (startTime == null || endTime == null) {
+      return 0;
+    }
+    int mask = 0;
+    for (int i = 0; i < SLOT_COUNT; i++) {
+      LocalTime slot = SLOT_TIMES[i];
+      if (!slot.isBefore(startTime) && slot.isBefore(endTime)) {
+        mask |= 1 << i;
+      }
+    }
+    return mask;
+  }
+
+  public boolean isBlocked(int slot) {
+    return (blockedMask & (1 << slot)) != 0;
+  }
+
+  public boolean isReserved(int slot) {
+    return (reservedMask & (1 << slot)) != 0;
+  }
+
+  /**
+   * 응답용 시간 슬롯 목록 생성
+   */
+  public List<AvailableTimeSlotsResponseDto.TimeSlot> toTimeSlots() {
+    List<AvailableTimeSlotsResponseDto.TimeSlot> timeSlots = new ArrayList<>(SLOT_COUNT);
+    for (int i = 0; i < SLOT_COUNT; i++) {
+      boolean isBlocked = isBlocked(i);
+      boolean isReserved = isReserved(i);
+      timeSlots.add(AvailableTimeSlotsResponseDto.TimeSlot.builder()
+          .time(SLOT_LABELS[i])
+          .isAvailable(!isBlocked && !isReserved)
+          .isReserved(isReserved)
+          .isBlocked(isBlocked)
+          .build());
+    }
+    return timeSlots;
+  }
+}
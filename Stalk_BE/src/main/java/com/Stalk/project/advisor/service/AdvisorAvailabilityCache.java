@@ -0,0 +1,127 @@
+package com.Stalk.project.advisor.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 전문가별·날짜별 예약 가능 시간 캐시
+ * <p>
+ * (advisorId, date) 단위로 {@link AdvisorAvailability} 비트마스크를 보관하며,
+ * 차단 시간 수정 / 예약 생성 / 예약 취소 시 {@link #evict(Long, LocalDate)} 로 무효화한다.
+ */
+@Component
+public class AdvisorAvailabilityCache {
+
+  private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+
+  // 무효화가 일어날 때마다 증가 → 조회 도중 무효화된 값은 캐시에 넣지 않는다
+  private final AtomicLong generation = new AtomicLong();
+
+  private final long ttlMillis;
+  private final int maxEntries;
+
+  public AdvisorAvailabilityCache(
+      @Value("${advisor.availability-cache.ttl-seconds:300}") long ttlSeconds,
+      @Value("${advisor.availability-cache.max-entries:50000}") int maxEntries) {
+    this.ttlMillis = ttlSeconds * 1000;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * 캐시 조회, 없거나 만료되었으면 loader 로 채운다
+   */
+  public AdvisorAvailability get(Long advisorId, LocalDate date,
+      Supplier<AdvisorAvailability> loader) {
+    Key key = new Key(advisorId, date);
+    long now = System.currentTimeMillis();
+
+    Entry entry = cache.get(key);
+    if (entry != null && entry.expiresAt() > now) {
+      return entry.availability();
+    }
+
+    long loadGeneration = generation.get();
+    AdvisorAvailability availability = loader.get();
+    put(key, availability, loadGeneration, now);
+    return availability;
+  }
+
+  /**
+   * 캐시에 유효한 값이 있으면 반환, 없으면 null
+   */
+  public AdvisorAvailability getIfPresent(Long advisorId, LocalDate date) {
+    Entry entry = cache.get(new Key(advisorId, date));
+    if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+      return entry.availability();
+    }
+    return null;
+  }
+
+  /**
+   * 현재 무효화 세대 (외부에서 일괄 조회 후 {@link #put(Long, LocalDate, AdvisorAvailability, long)} 할 때 사용)
+   */
+  public long currentGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * 일괄 조회 결과 저장, loadGeneration 이후 무효화가 있었다면 저장하지 않는다
+   */
+  public void put(Long advisorId, LocalDate date, AdvisorAvailability availability,
+      long loadGeneration) {
+    put(new Key(advisorId, date), availability, loadGeneration, System.currentTimeMillis());
+  }
+
+  /**
+   * 캐시 무효화
+   * <p>
+   * 트랜잭션 안에서 호출되면 커밋/롤백 이후에 한 번 더 무효화하여,
+   * 커밋 전에 다른 요청이 읽어 간 이전 값이 남지 않도록 한다.
+   */
+  public void evict(Long advisorId, LocalDate date) {
+    Key key = new Key(advisorId, date);
+    invalidate(key);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidate(key);
+        }
+      });
+    }
+  }
+
+  private void invalidate(Key key) {
+    generation.incrementAndGet();
+    cache.remove(key);
+  }
+
+  private void put(Key key, AdvisorAvailability availability, long loadGeneration, long now) {
+    if (generation.get() != loadGeneration) {
+      return; // 조회 도중 무효화 발생 → 캐싱하지 않음
+    }
+    if (cache.size() >= maxEntries) {
+      cache.values().removeIf(e -> e.expiresAt() <= now);
+      if (cache.size() >= maxEntries) {
+        cache.clear();
+      }
+    }
+    cache.put(key, new Entry(availability, now + ttlMillis));
+  }
+
+  private record Key(Long advisorId, LocalDate date) {
+
+  }
+
+  private record Entry(AdvisorAvailability availability, long expiresAt) {
+
+  }
+}
@@ -0,0 +1,32 @@
+package com.Stalk.project.advisor.service;
+
+import com.Stalk.project.advisor.dao.AdvisorMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 전문가 평점 집계 (advisor_detail_info.rating_sum / review_counting, avg_rating = 합계 / 개수) 유지
+ * <p>
+ * 목록 정렬이 리뷰 테이블 AVG() 없이 집계 컬럼 인덱스만으로 처리되도록, 하루 한 번 전체를 다시 계산해 둔다.
+ * 리뷰 작성·수정·삭제 API 가 아직 없으므로 증분 갱신 경로는 두지 않는다 (리뷰 변경은 다음 재계산에 반영).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdvisorRatingService {
+
+  private final AdvisorMapper advisorMapper;
+
+  /**
+   * 전체 전문가 평점 재계산 (advisor_reviews GROUP BY 한 번)
+   */
+  @Scheduled(cron = "${advisor.rating.recompute-cron:0 0 4 * * *}")
+  @Transactional
+  public void recomputeAll() {
+    int updated = advisorMapper.recomputeRatingAggregates();
+    log.info("전문가 평점 재계산 완료: updatedAdvisors={}", updated);
+  }
+}
@@ -3,9 +3,12 @@ package com.Stalk.project.advisor.service;
 import com.Stalk.project.advisor.dao.AdvisorMapper;
 import com.Stalk.project.advisor.dto.in.AdvisorBlockedTimesRequestDto;
 import com.Stalk.project.advisor.dto.in.AdvisorListRequestDto;
+import com.Stalk.project.advisor.dto.in.SortBy;
 import com.Stalk.project.advisor.dto.out.*;
 import com.Stalk.project.exception.BaseException;
 import com.Stalk.project.response.BaseResponseStatus;
+import com.Stalk.project.util.CursorCodec;
+import com.Stalk.project.util.ImageDerivativeService;
 import com.Stalk.project.util.CursorPage;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
@@ -13,37 +16,55 @@ import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AdvisorService {
 
+  // 기간별 예약 가능 시간 조회 최대 일수 (6주)
+  private static final int MAX_AVAILABILITY_RANGE_DAYS = 42;
+
   private final AdvisorMapper advisorMapper;
+  private final AdvisorAvailabilityCache availabilityCache;
+  private final ApprovedAdvisorRegistry approvedAdvisorRegistry;
 
   public CursorPage<AdvisorResponseDto> getAdvisorList(AdvisorListRequestDto requestDto) {
-    // cursor가 null인 경우 첫 페이지 조회
-    if (requestDto.getCursor() == null) {
-      requestDto.setCursor(0L); // 1L → 0L로 변경
-    }
+    boolean sortByRating = requestDto.getSortBy() == SortBy.RATING;
+
+    // cursor가 있으면 (정렬 값, advisor_id) 로 디코딩, 없으면 첫 페이지 조회
+    decodeAdvisorCursor(requestDto, sortByRating);
 
     // limit + 1로 조회하여 다음 페이지 존재 여부 확인
     List<AdvisorResponseDto> advisors = advisorMapper.findAllAdvisorsSummary(requestDto);
 
     boolean hasNext = advisors.size() > requestDto.getPageSize();
-    Long nextCursor = null;
+    String nextCursor = null;
 
-    // 다음 페이지가 있으면 마지막 요소 제거하고 nextCursor 설정
+    // 다음 페이지가 있으면 초과분 제거 후, 이번 페이지 마지막 요소의 정렬 키로 nextCursor 설정
     if (hasNext) {
-      AdvisorResponseDto lastAdvisor = advisors.remove(advisors.size() - 1);
-      nextCursor = lastAdvisor.getId();
+      advisors.remove(advisors.size() - 1);
+      if (!advisors.isEmpty()) {
+        AdvisorResponseDto lastAdvisor = advisors.get(advisors.size() - 1);
+        nextCursor = sortByRating
+            ? CursorCodec.encode(SortBy.RATING.name(), lastAdvisor.getAverageRating(),
+            lastAdvisor.getId())
+            : CursorCodec.encode(SortBy.REVIEW_COUNT.name(), lastAdvisor.getReviewCount(),
+                lastAdvisor.getId());
+      }
     }
 
+    // 목록에서는 원본 대신 썸네일 사용
+    advisors.forEach(advisor -> advisor.setProfileThumbnailUrl(
+        ImageDerivativeService.thumbnailUrl(advisor.getProfileImageUrl())));
+
     return CursorPage.<AdvisorResponseDto>builder()
         .content(advisors)
         .nextCursor(nextCursor)
@@ -53,6 +74,34 @@ public class AdvisorService {
         .build();
   }
 
+  /**
+   * 어드바이저 목록 커서 디코딩 (정렬 기준|정렬 값|advisor_id)
+   */
+  private void decodeAdvisorCursor(AdvisorListRequestDto requestDto, boolean sortByRating) {
+    String cursor = requestDto.getCursor();
+    if (cursor == null || cursor.isBlank()) {
+      requestDto.applyDecodedCursor(null, null, null);
+      return;
+    }
+
+    String[] parts = CursorCodec.decode(cursor, 3);
+    SortBy expectedSortBy = sortByRating ? SortBy.RATING : SortBy.REVIEW_COUNT;
+    if (!expectedSortBy.name().equals(parts[0])) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR); // 다른 정렬 기준의 커서
+    }
+
+    try {
+      Long cursorId = Long.parseLong(parts[2]);
+      if (sortByRating) {
+        requestDto.applyDecodedCursor(cursorId, null, Double.parseDouble(parts[1]));
+      } else {
+        requestDto.applyDecodedCursor(cursorId, Integer.parseInt(parts[1]), null);
+      }
+    } catch (NumberFormatException e) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+    }
+  }
+
   /**
    * 어드바이저 상세 정보 조회 (확장된 버전)
    */
@@ -105,12 +154,9 @@ public class AdvisorService {
   }
 
   /**
-   * 전문가의 예약 가능한 시간 슬롯 조회 (디버깅 버전)
+   * 전문가의 예약 가능한 시간 슬롯 조회
    */
   public AvailableTimeSlotsResponseDto getAvailableTimeSlots(Long advisorId, LocalDate date) {
-    System.out.println("=== 시간 슬롯 조회 시작 ===");
-    System.out.println("advisorId: " + advisorId + ", date: " + date);
-
     // 1. 기본 검증
     validateDateAndAdvisor(advisorId, date);
 
@@ -122,40 +168,91 @@ public class AdvisorService {
           .build();
     }
 
-    // 3. 기본 시간 슬롯 생성 (09:00 ~ 20:00, 1시간 간격)
-    List<LocalTime> baseTimeSlots = generateBaseTimeSlots();
-    System.out.println("기본 시간 슬롯: " + baseTimeSlots);
+    // 3. 차단/예약 비트마스크 조회 (캐시 미스 시 차단+예약 시간을 한 번의 쿼리로 조회)
+    AdvisorAvailability availability = availabilityCache.get(advisorId, date,
+        () -> AdvisorAvailability.from(advisorMapper.getAvailabilityTimeRanges(advisorId, date)));
 
-    // 4. 차단된 시간과 예약된 시간 조회
-    List<BlockedTimeDto> blockedTimes = advisorMapper.getBlockedTimes(advisorId, date);
-    List<ReservedTimeDto> reservedTimes = advisorMapper.getReservedTimes(advisorId, date);
+    // 4. 시간 슬롯별 가용성 판단 (09:00 ~ 20:00, 1시간 간격)
+    return AvailableTimeSlotsResponseDto.builder()
+        .date(date)
+        .timeSlots(availability.toTimeSlots())
+        .build();
+  }
 
-    System.out.println("차단된 시간 조회 결과: " + blockedTimes);
-    System.out.println("예약된 시간 조회 결과: " + reservedTimes);
+  /**
+   * 기간 내 전문가의 예약 가능한 시간 슬롯 조회
+   * <p>
+   * 검증은 기간 전체에 대해 한 번만 수행하고, 캐시에 없는 날짜는 한 번의 범위 쿼리로 채운다.
+   * 날짜별 응답 DTO 는 스트림을 소비하는 시점에 하루씩 생성된다.
+   */
+  public Stream<AvailableTimeSlotsResponseDto> getAvailableTimeSlotsRange(Long advisorId,
+      LocalDate startDate, LocalDate endDate) {
+    // 1. 기간 검증
+    if (endDate.isBefore(startDate)
+        || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_AVAILABILITY_RANGE_DAYS) {
+      throw new BaseException(BaseResponseStatus.INVALID_DATE_RANGE);
+    }
 
-    // 5. 차단/예약된 시간 Set으로 변환 (각각 별도 메서드로 처리)
-    Set<LocalTime> blockedTimeSet = convertBlockedTimesToSet(blockedTimes);
-    Set<LocalTime> reservedTimeSet = convertReservedTimesToSet(reservedTimes);
+    // 2. 시작일 + 전문가 검증 (기간 전체에 대해 한 번)
+    validateDateAndAdvisor(advisorId, startDate);
 
-    System.out.println("변환된 차단 시간 Set: " + blockedTimeSet);
-    System.out.println("변환된 예약 시간 Set: " + reservedTimeSet);
+    // 3. 평일 중 캐시에 없는 날짜 구간 확인
+    int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    AdvisorAvailability[] availabilities = new AdvisorAvailability[days];
+    LocalDate firstMissing = null;
+    LocalDate lastMissing = null;
 
-    // 6. 시간 슬롯별 가용성 판단
-    List<AvailableTimeSlotsResponseDto.TimeSlot> timeSlots = baseTimeSlots.stream()
-        .map(time -> createTimeSlot(time, blockedTimeSet, reservedTimeSet))
-        .collect(Collectors.toList());
+    for (int i = 0; i < days; i++) {
+      LocalDate date = startDate.plusDays(i);
+      if (isWeekend(date)) {
+        continue;
+      }
+      AdvisorAvailability cached = availabilityCache.getIfPresent(advisorId, date);
+      if (cached != null) {
+        availabilities[i] = cached;
+      } else {
+        if (firstMissing == null) {
+          firstMissing = date;
+        }
+        lastMissing = date;
+      }
+    }
 
-    System.out.println("최종 시간 슬롯 결과:");
-    timeSlots.forEach(slot ->
-        System.out.println("  " + slot.getTime() + " - available: " + slot.getIsAvailable() +
-            ", blocked: " + slot.getIsBlocked() + ", reserved: " + slot.getIsReserved())
-    );
-    System.out.println("=== 시간 슬롯 조회 완료 ===");
+    // 4. 캐시 미스 구간은 한 번의 범위 쿼리로 조회
+    if (firstMissing != null) {
+      loadAvailabilityRange(advisorId, startDate, firstMissing, lastMissing, availabilities);
+    }
 
-    return AvailableTimeSlotsResponseDto.builder()
-        .date(date)
-        .timeSlots(timeSlots)
-        .build();
+    // 5. 날짜별 응답 (주말은 빈 배열)
+    return IntStream.range(0, days)
+        .mapToObj(i -> AvailableTimeSlotsResponseDto.builder()
+            .date(startDate.plusDays(i))
+            .timeSlots(availabilities[i] == null
+                ? new ArrayList<>()
+                : availabilities[i].toTimeSlots())
+            .build());
+  }
+
+  /**
+   * [from, to] 구간의 차단/예약 시간을 한 번에 조회하여 비어 있는 평일 슬롯을 채우고 캐시에 저장
+   */
+  private void loadAvailabilityRange(Long advisorId, LocalDate baseDate, LocalDate from,
+      LocalDate to, AdvisorAvailability[] availabilities) {
+    long loadGeneration = availabilityCache.currentGeneration();
+    Map<LocalDate, List<AvailabilityTimeRangeDto>> rangesByDate = advisorMapper
+        .getAvailabilityTimeRangesBetween(advisorId, from, to).stream()
+        .collect(Collectors.groupingBy(AvailabilityTimeRangeDto::getDate));
+
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      int index = (int) ChronoUnit.DAYS.between(baseDate, date);
+      if (availabilities[index] != null || isWeekend(date)) {
+        continue;
+      }
+      AdvisorAvailability availability = AdvisorAvailability.from(
+          rangesByDate.getOrDefault(date, List.of()));
+      availabilities[index] = availability;
+      availabilityCache.put(advisorId, date, availability, loadGeneration);
+    }
   }
 
   /**
@@ -172,13 +269,8 @@ public class AdvisorService {
       throw new BaseException(BaseResponseStatus.SAME_DAY_RESERVATION_NOT_ALLOWED_NEW);
     }
 
-    // 전문가 존재 여부 확인
-    try {
-      AdvisorDetailResponseDto advisor = getAdvisorDetail(advisorId);
-      if (advisor == null) {
-        throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
-      }
-    } catch (Exception e) {
+    // 전문가 존재 및 승인 여부 확인
+    if (!approvedAdvisorRegistry.isApproved(advisorId)) {
       throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
     }
   }
@@ -191,71 +283,6 @@ public class AdvisorService {
     return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
   }
 
-  /**
-   * 기본 시간 슬롯 생성 (09:00 ~ 20:00)
-   */
-  private List<LocalTime> generateBaseTimeSlots() {
-    List<LocalTime> timeSlots = new ArrayList<>();
-    for (int hour = 9; hour < 21; hour++) { // 09:00 ~ 20:00 (21시 제외)
-      timeSlots.add(LocalTime.of(hour, 0));
-    }
-    return timeSlots;
-  }
-
-  /**
-   * 차단된 시간을 LocalTime Set으로 변환
-   */
-  private Set<LocalTime> convertBlockedTimesToSet(List<BlockedTimeDto> blockedTimes) {
-    return blockedTimes.stream()
-        .flatMap(blocked -> {
-          // 시작 시간부터 종료 시간까지의 모든 시간 생성
-          List<LocalTime> times = new ArrayList<>();
-          LocalTime current = blocked.getStartTime();
-          while (current.isBefore(blocked.getEndTime())) {
-            times.add(current);
-            current = current.plusHours(1);
-          }
-          return times.stream();
-        })
-        .collect(Collectors.toSet());
-  }
-
-  /**
-   * 예약된 시간을 LocalTime Set으로 변환
-   */
-  private Set<LocalTime> convertReservedTimesToSet(List<ReservedTimeDto> reservedTimes) {
-    return reservedTimes.stream()
-        .flatMap(reserved -> {
-          // 시작 시간부터 종료 시간까지의 모든 시간 생성
-          List<LocalTime> times = new ArrayList<>();
-          LocalTime current = reserved.getStartTime();
-          while (current.isBefore(reserved.getEndTime())) {
-            times.add(current);
-            current = current.plusHours(1);
-          }
-          return times.stream();
-        })
-        .collect(Collectors.toSet());
-  }
-
-  /**
-   * 개별 시간 슬롯 생성
-   */
-  private AvailableTimeSlotsResponseDto.TimeSlot createTimeSlot(LocalTime time,
-      Set<LocalTime> blockedTimes,
-      Set<LocalTime> reservedTimes) {
-    boolean isBlocked = blockedTimes.contains(time);
-    boolean isReserved = reservedTimes.contains(time);
-    boolean isAvailable = !isBlocked && !isReserved;
-
-    return AvailableTimeSlotsResponseDto.TimeSlot.builder()
-        .time(time.toString()) // "09:00" 형식으로 변환
-        .isAvailable(isAvailable)
-        .isReserved(isReserved)
-        .isBlocked(isBlocked)
-        .build();
-  }
-
   /**
    * 전문가의 특정 날짜 차단 시간 조회
    */
@@ -264,7 +291,7 @@ public class AdvisorService {
     validateDateFormat(date);
 
     // 2. 전문가 존재 및 승인 여부 확인
-    if (!advisorMapper.isAdvisorExistsAndApproved(advisorId)) {
+    if (!approvedAdvisorRegistry.isApproved(advisorId)) {
       throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
     }
 
@@ -290,7 +317,7 @@ public class AdvisorService {
     }
 
     // 3. 전문가 존재 및 승인 여부 확인
-    if (!advisorMapper.isAdvisorExistsAndApproved(advisorId)) {
+    if (!approvedAdvisorRegistry.isApproved(advisorId)) {
       throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
     }
 
@@ -316,6 +343,9 @@ public class AdvisorService {
       advisorMapper.insertBlockedTimes(advisorId, date, blockedTimes);
     }
 
+    // 8. 예약 가능 시간 캐시 무효화
+    availabilityCache.evict(advisorId, LocalDate.parse(date));
+
     return new AdvisorBlockedTimesUpdateResponseDto(date, blockedTimes);
   }
 
@@ -0,0 +1,84 @@
+package com.Stalk.project.advisor.service;
+
+import com.Stalk.project.advisor.dao.AdvisorMapper;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 승인된 전문가 ID 목록 (메모리 스냅샷)
+ * <p>
+ * 예약 가능 시간 조회·예약 생성 등에서 "승인된 전문가인가?" 만 확인할 때 사용한다.
+ * 스냅샷은 TTL 이 지나면 한 번의 쿼리로 전체를 다시 읽는다. 스냅샷에 없는 ID 는 DB 로 한 번 더 확인하고,
+ * 승인되지 않은 ID 도 다음 재적재까지 기억해 같은 ID 로 DB 를 반복 조회하지 않는다.
+ * 따라서 승인·승인 취소는 최대 TTL 뒤에 반영된다 (승인 상태를 바꾸는 API 가 없어 즉시 무효화 경로는 두지 않음).
+ */
+@Component
+public class ApprovedAdvisorRegistry {
+
+  private final AdvisorMapper advisorMapper;
+  private final long ttlMillis;
+
+  // 승인되지 않은 전문가로 확인된 ID 수 상한 (임의 ID 조회로 메모리가 늘어나는 것 방지)
+  private static final int MAX_REJECTED_IDS = 10_000;
+
+  private volatile Set<Long> approvedIds = ConcurrentHashMap.newKeySet();
+  // 스냅샷 이후 DB 로 확인한 미승인(또는 없는) ID, 스냅샷과 함께 비운다
+  private volatile Set<Long> rejectedIds = ConcurrentHashMap.newKeySet();
+  private volatile long expiresAt = 0L;
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+  public ApprovedAdvisorRegistry(AdvisorMapper advisorMapper,
+      @Value("${advisor.approved-registry.ttl-seconds:300}") long ttlSeconds) {
+    this.advisorMapper = advisorMapper;
+    this.ttlMillis = ttlSeconds * 1000;
+  }
+
+  /**
+   * 승인된 전문가 여부
+   */
+  public boolean isApproved(Long advisorId) {
+    if (advisorId == null) {
+      return false;
+    }
+
+    Set<Long> snapshot = currentSnapshot();
+    if (snapshot.contains(advisorId)) {
+      return true;
+    }
+    Set<Long> rejected = rejectedIds;
+    if (rejected.contains(advisorId)) {
+      return false;
+    }
+
+    // 스냅샷 이후 승인되었을 수 있으므로 DB 확인
+    if (advisorMapper.isAdvisorExistsAndApproved(advisorId)) {
+      snapshot.add(advisorId);
+      return true;
+    }
+    if (rejected.size() < MAX_REJECTED_IDS) {
+      rejected.add(advisorId);
+    }
+    return false;
+  }
+
+  /**
+   * TTL 이 지났으면 한 스레드만 전체 목록을 다시 읽고, 나머지는 기존 스냅샷을 사용
+   */
+  private Set<Long> currentSnapshot() {
+    if (System.currentTimeMillis() >= expiresAt && refreshing.compareAndSet(false, true)) {
+      try {
+        Set<Long> reloaded = ConcurrentHashMap.newKeySet();
+        reloaded.addAll(advisorMapper.findApprovedAdvisorIds());
+        approvedIds = reloaded;
+        rejectedIds = ConcurrentHashMap.newKeySet();
+        expiresAt = System.currentTimeMillis() + ttlMillis;
+      } finally {
+        refreshing.set(false);
+      }
+    }
+    return approvedIds;
+  }
+}
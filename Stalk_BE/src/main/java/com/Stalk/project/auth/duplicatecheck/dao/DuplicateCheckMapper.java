@@ -2,21 +2,33 @@ package com.Stalk.project.auth.duplicatecheck.dao;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface DuplicateCheckMapper {
 
     /**
-     * user_id로 조회된 레코드 수 반환
+     * user_id 존재 여부 (인덱스 존재 확인, 첫 행에서 종료)
      * @param value 확인할 사용자 ID 문자열
-     * @return 동일한 ID 개수
+     * @return 이미 사용 중이면 true
      */
-    int countByUserId(@Param("value") String value);
+    boolean existsByUserId(@Param("value") String value);
 
     /**
-     * nickname으로 조회된 레코드 수 반환
+     * nickname 존재 여부 (인덱스 존재 확인, 첫 행에서 종료)
      * @param value 확인할 닉네임 문자열
-     * @return 동일한 닉네임 개수
+     * @return 이미 사용 중이면 true
      */
-    int countByNickname(@Param("value") String value);
+    boolean existsByNickname(@Param("value") String value);
+
+    /**
+     * 전체 사용자 수 (Bloom filter 크기 산정용)
+     */
+    long countUsers();
+
+    /**
+     * 전체 사용자 ID / 닉네임을 한 행씩 스트리밍 (Bloom filter 적재용)
+     * @param handler 행마다 호출되는 핸들러
+     */
+    void scanIdentifiers(ResultHandler<UserIdentifierDto> handler);
 }
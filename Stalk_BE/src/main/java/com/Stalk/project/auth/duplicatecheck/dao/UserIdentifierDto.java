@@ -0,0 +1,17 @@
+package com.Stalk.project.auth.duplicatecheck.dao;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 사용자 ID / 닉네임 (중복 확인용 Bloom filter 적재 시 사용)
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+public class UserIdentifierDto {
+
+    private String userId;
+    private String nickname;
+}
@@ -7,9 +7,12 @@ import com.Stalk.project.auth.duplicatecheck.dao.DuplicateCheckMapper;
 public class DuplicateCheckService {
 
     private final DuplicateCheckMapper mapper;
+    private final TakenIdentifierFilter takenIdentifierFilter;
 
-    public DuplicateCheckService(DuplicateCheckMapper mapper) {
+    public DuplicateCheckService(DuplicateCheckMapper mapper,
+        TakenIdentifierFilter takenIdentifierFilter) {
         this.mapper = mapper;
+        this.takenIdentifierFilter = takenIdentifierFilter;
     }
 
     /**
@@ -19,17 +22,45 @@ public class DuplicateCheckService {
      * @return true: 중복(사용 불가), false: 사용 가능
      */
     public boolean isDuplicated(String type, String value) {
-        int count;
         switch (type) {
             case "id":
-                count = mapper.countByUserId(value);
-                break;
+                return isUserIdTaken(value);
             case "nickname":
-                count = mapper.countByNickname(value);
-                break;
+                return isNicknameTaken(value);
             default:
                 throw new IllegalArgumentException("허용되지 않는 타입입니다: " + type);
         }
-        return count > 0;
+    }
+
+    /**
+     * 사용자 ID 중복 여부 (Bloom filter 에서 "없음" 이면 DB 조회 생략)
+     */
+    public boolean isUserIdTaken(String userId) {
+        return takenIdentifierFilter.mightContainUserId(userId) && mapper.existsByUserId(userId);
+    }
+
+    /**
+     * 닉네임 중복 여부 (Bloom filter 에서 "없음" 이면 DB 조회 생략)
+     */
+    public boolean isNicknameTaken(String nickname) {
+        return takenIdentifierFilter.mightContainNickname(nickname)
+            && mapper.existsByNickname(nickname);
+    }
+
+    /**
+     * 사용자 ID 중복 여부 (항상 DB 확인, 회원가입 확정 시 사용)
+     * <p>
+     * Bloom filter 는 인스턴스별로 갱신되므로, 가입 확정 단계에서는 다른 인스턴스에서
+     * 방금 가입한 값도 놓치지 않도록 DB 존재 확인만 사용한다.
+     */
+    public boolean existsUserId(String userId) {
+        return mapper.existsByUserId(userId);
+    }
+
+    /**
+     * 닉네임 중복 여부 (항상 DB 확인, 회원가입 확정 시 사용)
+     */
+    public boolean existsNickname(String nickname) {
+        return mapper.existsByNickname(nickname);
     }
 }
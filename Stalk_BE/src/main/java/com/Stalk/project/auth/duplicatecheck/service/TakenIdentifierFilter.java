@@ -0,0 +1,210 @@
+package com.Stalk.project.auth.duplicatecheck.service;
+
+import com.Stalk.project.auth.duplicatecheck.dao.DuplicateCheckMapper;
+import com.Stalk.project.util.BloomFilter;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용 중인 사용자 ID / 닉네임 Bloom filter
+ * <p>
+ * 시작 시 users 테이블을 스트리밍해 채우고, 회원가입 시 {@link #add(String, String)} 로 갱신한다.
+ * "없음" 판정은 DB 조회 없이 확정되고, "있을 수도 있음" 일 때만 DB 존재 확인으로 넘어간다.
+ * <p>
+ * users 컬럼의 비교 규칙(대소문자·악센트 무시, 뒤 공백 무시)과 어긋나지 않도록 정규화한 값을 넣는다.
+ * 정규화로 서로 다른 값이 같아져도 오탐만 늘 뿐 미탐은 생기지 않는다.
+ * 삭제·탈퇴는 반영하지 않으므로 주기적으로 다시 만든다.
+ * <p>
+ * 필터는 인스턴스마다 따로 있으므로, 가입으로 추가된 값은 Redis 채널({@value #CHANNEL})로 알려
+ * 다른 인스턴스의 필터에도 넣는다. Redis 장애 등으로 알림을 놓치면 다음 재구성 전까지 그 값이
+ * "사용 가능" 으로 보일 수 있지만, 가입 확정 단계는 항상 DB 로 확인하므로 중복 가입은 생기지 않는다.
+ */
+@Slf4j
+@Component
+public class TakenIdentifierFilter implements MessageListener {
+
+  static final String CHANNEL = "duplicate-filter:taken";
+
+  // 알림 메시지의 userId / nickname 구분자
+  private static final char SEPARATOR = '\n';
+
+  private final DuplicateCheckMapper mapper;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final double falsePositiveRate;
+  private final long minExpectedInsertions;
+
+  // 준비되기 전(null)에는 항상 DB 로 확인
+  private volatile Filters current;
+  // 재구성 중인 필터 (재구성 도중 가입한 값도 새 필터에 넣기 위함)
+  private Filters building;
+  // add 와 필터 교체(building/current 지정)를 직렬화
+  private final Object swapLock = new Object();
+
+  public TakenIdentifierFilter(DuplicateCheckMapper mapper,
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${auth.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${auth.duplicate-filter.min-expected-insertions:100000}") long minExpectedInsertions) {
+    this.mapper = mapper;
+    this.redisTemplate = redisTemplate;
+    this.falsePositiveRate = falsePositiveRate;
+    this.minExpectedInsertions = minExpectedInsertions;
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /**
+   * 사용자 ID 사용 여부, false 면 확실히 미사용
+   */
+  public boolean mightContainUserId(String userId) {
+    Filters filters = current;
+    return filters == null || filters.userIds().mightContain(normalize(userId));
+  }
+
+  /**
+   * 닉네임 사용 여부, false 면 확실히 미사용
+   */
+  public boolean mightContainNickname(String nickname) {
+    Filters filters = current;
+    return filters == null || filters.nicknames().mightContain(normalize(nickname));
+  }
+
+  /**
+   * 가입한 사용자의 ID / 닉네임 추가 (다른 인스턴스에도 알림), 트랜잭션 안이면 커밋된 뒤에 반영
+   * <p>
+   * 커밋 후에 넣어야 재구성 스캔이 아직 보지 못한 행을 새 필터가 놓치지 않는다.
+   */
+  public void add(String userId, String nickname) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          addNow(userId, nickname);
+          publish(userId, nickname);
+        }
+      });
+      return;
+    }
+    addNow(userId, nickname);
+    publish(userId, nickname);
+  }
+
+  /**
+   * 다른 인스턴스가 알린 가입 반영 (자신이 보낸 알림도 받지만 같은 값을 다시 넣을 뿐이다)
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(SEPARATOR);
+    if (separator < 0) {
+      return;
+    }
+    String userId = body.substring(0, separator);
+    String nickname = body.substring(separator + 1);
+    addNow(userId.isEmpty() ? null : userId, nickname.isEmpty() ? null : nickname);
+  }
+
+  private void publish(String userId, String nickname) {
+    String body = (userId == null ? "" : userId) + SEPARATOR + (nickname == null ? "" : nickname);
+    try {
+      redisTemplate.convertAndSend(CHANNEL, body);
+    } catch (Exception e) {
+      log.warn("중복 확인 필터 갱신 알림 실패: userId={}", userId, e);
+    }
+  }
+
+  private void addNow(String userId, String nickname) {
+    synchronized (swapLock) {
+      put(current, userId, nickname);
+      put(building, userId, nickname);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    rebuild();
+  }
+
+  /**
+   * users 테이블 전체를 스트리밍해 필터를 새로 만든다
+   */
+  @Scheduled(cron = "${auth.duplicate-filter.rebuild-cron:0 0 5 * * *}")
+  public synchronized void rebuild() {
+    try {
+      long expected = Math.max(minExpectedInsertions, mapper.countUsers() * 2);
+      Filters next = new Filters(new BloomFilter(expected, falsePositiveRate),
+          new BloomFilter(expected, falsePositiveRate));
+      synchronized (swapLock) {
+        building = next;
+      }
+
+      long[] rows = {0};
+      mapper.scanIdentifiers(context -> {
+        put(next, context.getResultObject().getUserId(),
+            context.getResultObject().getNickname());
+        rows[0]++;
+      });
+
+      synchronized (swapLock) {
+        current = next;
+        building = null;
+      }
+      log.info("중복 확인 Bloom filter 적재 완료: users={}, expectedInsertions={}", rows[0], expected);
+    } catch (Exception e) {
+      // 기존 필터(없으면 DB 직접 조회)로 계속 동작
+      log.warn("중복 확인 Bloom filter 적재 실패", e);
+      synchronized (swapLock) {
+        building = null;
+      }
+    }
+  }
+
+  private void put(Filters filters, String userId, String nickname) {
+    if (filters == null) {
+      return;
+    }
+    if (userId != null) {
+      filters.userIds().put(normalize(userId));
+    }
+    if (nickname != null) {
+      filters.nicknames().put(normalize(nickname));
+    }
+  }
+
+  /**
+   * 소문자화 + 결합 문자(악센트) 제거 + 뒤 공백 제거
+   */
+  private static String normalize(String value) {
+    String decomposed = Normalizer.normalize(value.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+    StringBuilder sb = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (Character.getType(c) != Character.NON_SPACING_MARK) {
+        sb.append(c);
+      }
+    }
+    int end = sb.length();
+    while (end > 0 && sb.charAt(end - 1) == ' ') {
+      end--;
+    }
+    sb.setLength(end);
+    return sb.toString();
+  }
+
+  private record Filters(BloomFilter userIds, BloomFilter nicknames) {
+
+  }
+}
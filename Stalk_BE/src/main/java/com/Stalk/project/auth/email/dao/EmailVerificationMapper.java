@@ -7,6 +7,6 @@ import org.apache.ibatis.annotations.Mapper;
 public interface EmailVerificationMapper {
     EmailVerification findByEmail(String email);
     void insert(EmailVerification ev);
-    void updateCode(EmailVerification ev);
+    int updateCode(EmailVerification ev);
     void markVerified(String email);
 }
@@ -1,51 +1,38 @@
 package com.Stalk.project.auth.email.service;
 
-import com.Stalk.project.auth.email.dao.EmailVerificationMapper;
-import com.Stalk.project.auth.email.entity.EmailVerification;
+import com.Stalk.project.auth.email.service.EmailVerificationStore.VerifyResult;
 import com.Stalk.project.signup.dao.UserMapper;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-    private final EmailVerificationMapper emailVerificationMapper;
+    private final MailQueue mailQueue;
+    private final EmailVerificationStore emailVerificationStore;
     private final UserMapper userMapper;
 
+    // 인증 코드 유효기간
+    private static final Duration CODE_TTL = Duration.ofMinutes(10);
+
     @Value("${spring.mail.username}")
     private String from;
 
     /**
-     * 인증 코드 생성 및 이메일 전송
+     * 인증 코드 생성 및 이메일 전송, 이메일별 발송 한도를 넘으면 429
      */
     public void sendVerificationCode(String email) {
         String code = generateCode();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
-
-        EmailVerification existing = emailVerificationMapper.findByEmail(email);
-
-        if (existing == null) {
-            EmailVerification ev = new EmailVerification();
-            ev.setEmail(email);
-            ev.setCode(code);
-            ev.setExpiresAt(expiresAt);
-            ev.setVerified(false);
-            emailVerificationMapper.insert(ev);
-        } else {
-            existing.setCode(code);
-            existing.setExpiresAt(expiresAt);
-            existing.setVerified(false);
-            emailVerificationMapper.updateCode(existing);
+        if (!emailVerificationStore.saveCode(email, code, CODE_TTL)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                "인증 코드 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
         }
 
         sendEmail(email, code);
@@ -55,44 +42,29 @@ public class EmailService {
      * 인증 코드 검증
      */
     public boolean verifyCode(String email, String code) {
-        EmailVerification ev = emailVerificationMapper.findByEmail(email);
-
-        if (ev == null) {
-            throw new IllegalArgumentException("해당 이메일의 인증 정보가 없습니다.");
-        }
-
-        if (ev.getVerified() != null && ev.getVerified()) {
-            return true;
+        VerifyResult result = emailVerificationStore.verify(email, code);
+
+        switch (result) {
+            case ALREADY_VERIFIED:
+                return true;
+            case NOT_FOUND:
+                throw new IllegalArgumentException("인증 코드가 만료되었거나 유효하지 않습니다.");
+            case TOO_MANY_ATTEMPTS:
+                throw new IllegalArgumentException("인증 시도 횟수를 초과했습니다. 잠시 후 인증 코드를 다시 요청해주세요.");
+            case MISMATCH:
+                throw new IllegalArgumentException("인증 코드가 일치하지 않습니다.");
+            default:
+                userMapper.markUserVerified(email);
+                return true;
         }
-
-        if (ev.getExpiresAt() == null || ev.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("인증 코드가 만료되었거나 유효하지 않습니다.");
-        }
-
-        if (!ev.getCode().equals(code)) {
-            throw new IllegalArgumentException("인증 코드가 일치하지 않습니다.");
-        }
-
-        emailVerificationMapper.markVerified(email);
-        userMapper.markUserVerified(email);
-        return true;
     }
 
     /**
-     * 이메일 전송
+     * 이메일 전송 (발송 대기열에 넣고 바로 반환, 실제 발송은 MailQueue 워커가 처리)
      */
     private void sendEmail(String to, String code) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-            helper.setTo(to);
-            helper.setSubject("[STALK] 이메일 인증 코드입니다");
-            helper.setFrom(from);
-            helper.setText("인증 코드: " + code + "\n10분 안에 입력해주세요.");
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new RuntimeException("이메일 발송 실패", e);
-        }
+        mailQueue.enqueue(from, to, "[STALK] 이메일 인증 코드입니다",
+            "인증 코드: " + code + "\n10분 안에 입력해주세요.");
     }
 
     /**
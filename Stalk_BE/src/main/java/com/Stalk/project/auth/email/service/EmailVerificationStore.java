@@ -0,0 +1,37 @@
+package com.Stalk.project.auth.email.service;
+
+import java.time.Duration;
+
+/**
+ * 이메일 인증 코드 저장소
+ * <p>
+ * 기본 구현은 Redis ({@link RedisEmailVerificationStore}), auth.email-verification.store=mysql 이면
+ * email_verification 테이블을 사용하는 {@link MysqlEmailVerificationStore} 를 사용한다.
+ */
+public interface EmailVerificationStore {
+
+  /**
+   * 인증 코드 저장 (기존 코드·코드별 시도 횟수·인증 완료 상태는 초기화)
+   *
+   * @return false 면 이메일별 발송 한도 초과 (저장하지 않음)
+   */
+  boolean saveCode(String email, String code, Duration ttl);
+
+  /**
+   * 인증 코드 검증
+   */
+  VerifyResult verify(String email, String code);
+
+  /**
+   * 인증이 완료된 이메일인지 여부 (회원가입 시 확인)
+   */
+  boolean isVerified(String email);
+
+  enum VerifyResult {
+    VERIFIED,           // 이번 요청으로 인증 완료
+    ALREADY_VERIFIED,   // 이미 인증된 이메일
+    MISMATCH,           // 코드 불일치
+    NOT_FOUND,          // 코드가 없거나 만료됨
+    TOO_MANY_ATTEMPTS   // 시도 횟수 초과
+  }
+}
@@ -0,0 +1,204 @@
+package com.Stalk.project.auth.email.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 메일 대기열 + 워커 풀
+ * <p>
+ * HTTP 요청 스레드는 {@link #enqueue} 로 대기열에 넣고 바로 반환한다. 워커는 발송 시각이 된 메일을
+ * 최대 batch-size 건까지 모아 {@link JavaMailSender#send(MimeMessage...)} 한 번으로
+ * (= SMTP 연결 하나로) 보내고, 실패한 메일만 지수 백오프로 다시 대기열에 넣는다.
+ */
+@Slf4j
+@Component
+public class MailQueue {
+
+  private final JavaMailSender mailSender;
+  private final DelayQueue<MailTask> queue = new DelayQueue<>();
+  private final List<Thread> workers = new ArrayList<>();
+
+  private final int capacity;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long backoffMillis;
+  private volatile boolean running = true;
+
+  private final Counter sentCounter;
+  private final Counter retriedCounter;
+  private final Counter droppedCounter;
+
+  public MailQueue(JavaMailSender mailSender, MeterRegistry meterRegistry,
+      @Value("${mail.queue.workers:2}") int workerCount,
+      @Value("${mail.queue.capacity:10000}") int capacity,
+      @Value("${mail.queue.batch-size:20}") int batchSize,
+      @Value("${mail.queue.max-attempts:5}") int maxAttempts,
+      @Value("${mail.queue.backoff-ms:2000}") long backoffMillis) {
+    this.mailSender = mailSender;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.backoffMillis = backoffMillis;
+
+    Gauge.builder("mail.queue.size", queue, DelayQueue::size)
+        .description("발송 대기 중인 메일 수 (재시도 대기 포함)")
+        .register(meterRegistry);
+    this.sentCounter = Counter.builder("mail.queue.sent").register(meterRegistry);
+    this.retriedCounter = Counter.builder("mail.queue.retried").register(meterRegistry);
+    this.droppedCounter = Counter.builder("mail.queue.dropped").register(meterRegistry);
+
+    for (int i = 1; i <= workerCount; i++) {
+      Thread worker = new Thread(this::work, "mail-sender-" + i);
+      worker.setDaemon(true);
+      worker.start();
+      workers.add(worker);
+    }
+  }
+
+  /**
+   * 메일 발송 예약 (즉시 반환)
+   *
+   * @throws IllegalStateException 대기열이 가득 찬 경우
+   */
+  public void enqueue(String from, String to, String subject, String text) {
+    if (queue.size() >= capacity) {
+      throw new IllegalStateException("메일 발송 대기열이 가득 찼습니다.");
+    }
+    queue.offer(new MailTask(from, to, subject, text, 1, System.currentTimeMillis()));
+  }
+
+  private void work() {
+    while (running) {
+      try {
+        List<MailTask> batch = new ArrayList<>(batchSize);
+        batch.add(queue.take());
+        // 이미 발송 시각이 된 메일만 추가로 모은다
+        queue.drainTo(batch, batchSize - 1);
+        send(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.error("메일 워커 오류", e);
+      }
+    }
+  }
+
+  private void send(List<MailTask> batch) {
+    Map<MimeMessage, MailTask> messages = new IdentityHashMap<>();
+    for (MailTask task : batch) {
+      try {
+        messages.put(toMessage(task), task);
+      } catch (MessagingException e) {
+        // 주소 형식 오류 등은 재시도해도 실패하므로 버린다
+        log.warn("메일 생성 실패, 발송 취소: to={}", task.to(), e);
+        droppedCounter.increment();
+      }
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    try {
+      mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+      sentCounter.increment(messages.size());
+    } catch (MailSendException e) {
+      // 일부만 실패한 경우 실패한 메일만 재시도 (연결 실패 등으로 목록이 비어 있으면 전체 재시도)
+      Map<Object, Exception> failed = e.getFailedMessages();
+      if (failed.isEmpty()) {
+        messages.values().forEach(task -> retry(task, e));
+        return;
+      }
+      sentCounter.increment(messages.size() - failed.size());
+      failed.forEach((message, cause) -> {
+        MailTask task = messages.get(message);
+        if (task != null) {
+          retry(task, cause);
+        }
+      });
+    } catch (MailException e) {
+      messages.values().forEach(task -> retry(task, e));
+    }
+  }
+
+  private MimeMessage toMessage(MailTask task) throws MessagingException {
+    MimeMessage message = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(message, true);
+    helper.setTo(task.to());
+    helper.setSubject(task.subject());
+    helper.setFrom(task.from());
+    helper.setText(task.text());
+    return message;
+  }
+
+  private void retry(MailTask task, Exception cause) {
+    if (task.attempt() >= maxAttempts || !running) {
+      log.error("메일 발송 최종 실패: to={}, attempts={}", task.to(), task.attempt(), cause);
+      droppedCounter.increment();
+      return;
+    }
+    long delay = backoffMillis << (task.attempt() - 1);
+    log.warn("메일 발송 실패, {}ms 후 재시도: to={}, attempt={}", delay, task.to(), task.attempt());
+    retriedCounter.increment();
+    queue.offer(task.next(System.currentTimeMillis() + delay));
+  }
+
+  /**
+   * 종료 시 워커를 멈추고 남은 메일은 재시도 대기와 관계없이 한 번씩 발송 시도
+   */
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    workers.forEach(Thread::interrupt);
+    for (Thread worker : workers) {
+      try {
+        worker.join(5000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    List<MailTask> remaining = new ArrayList<>(queue);
+    queue.clear();
+    for (int from = 0; from < remaining.size(); from += batchSize) {
+      send(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+    }
+  }
+
+  private record MailTask(String from, String to, String subject, String text,
+                          int attempt, long dueAt) implements Delayed {
+
+    MailTask next(long nextDueAt) {
+      return new MailTask(from, to, subject, text, attempt + 1, nextDueAt);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(dueAt, ((MailTask) other).dueAt);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.Stalk.project.auth.email.service;
+
+import com.Stalk.project.auth.email.dao.EmailVerificationMapper;
+import com.Stalk.project.auth.email.entity.EmailVerification;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL(email_verification 테이블) 기반 {@link EmailVerificationStore}
+ * <p>
+ * Redis 를 쓸 수 없는 환경을 위한 대체 구현 (auth.email-verification.store=mysql).
+ * 만료는 expires_at 으로 판단하며, 발송·시도 횟수 제한은 하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.email-verification.store", havingValue = "mysql")
+public class MysqlEmailVerificationStore implements EmailVerificationStore {
+
+  private final EmailVerificationMapper emailVerificationMapper;
+
+  public MysqlEmailVerificationStore(EmailVerificationMapper emailVerificationMapper) {
+    this.emailVerificationMapper = emailVerificationMapper;
+  }
+
+  @Override
+  public boolean saveCode(String email, String code, Duration ttl) {
+    EmailVerification ev = new EmailVerification();
+    ev.setEmail(email);
+    ev.setCode(code);
+    ev.setExpiresAt(LocalDateTime.now().plus(ttl));
+    ev.setVerified(false);
+
+    // 재발송이면 UPDATE 한 번으로 끝나고, 첫 발송일 때만 INSERT 가 이어진다 (사전 SELECT 없음)
+    if (emailVerificationMapper.updateCode(ev) == 0) {
+      emailVerificationMapper.insert(ev);
+    }
+    return true;
+  }
+
+  @Override
+  public VerifyResult verify(String email, String code) {
+    EmailVerification ev = emailVerificationMapper.findByEmail(email);
+    if (ev == null) {
+      return VerifyResult.NOT_FOUND;
+    }
+    if (Boolean.TRUE.equals(ev.getVerified())) {
+      return VerifyResult.ALREADY_VERIFIED;
+    }
+    if (ev.getExpiresAt() == null || ev.getExpiresAt().isBefore(LocalDateTime.now())) {
+      return VerifyResult.NOT_FOUND;
+    }
+    if (!ev.getCode().equals(code)) {
+      return VerifyResult.MISMATCH;
+    }
+    emailVerificationMapper.markVerified(email);
+    return VerifyResult.VERIFIED;
+  }
+
+  @Override
+  public boolean isVerified(String email) {
+    EmailVerification ev = emailVerificationMapper.findByEmail(email);
+    return ev != null && Boolean.TRUE.equals(ev.getVerified());
+  }
+}
@@ -0,0 +1,138 @@
+package com.Stalk.project.auth.email.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 {@link EmailVerificationStore}
+ * <p>
+ * email_verification:{email} (hash: code, attempts) 는 코드 유효기간을 키 TTL 로 두어 자동 만료되고,
+ * 인증이 끝나면 email_verified:{email} 로 옮겨 회원가입 완료까지 유지한다.
+ * 저장·검증은 각각 Lua 스크립트 한 번(= Redis 왕복 1회)으로 처리하며,
+ * 검증 시 시도 횟수를 원자적으로 올려 코드 대입 공격을 막는다.
+ * <p>
+ * 코드별 시도 횟수는 재발송하면 초기화되므로, email_verification_quota:{email} (hash: sends, attempts)
+ * 에 발송·검증 횟수를 따로 센다. 이 키는 첫 발송 시점부터 window-minutes 동안 유지되고 재발송으로
+ * 늘어나지 않으므로, 재발송을 반복해도 창 안의 발송·시도 횟수 한도는 그대로다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.email-verification.store", havingValue = "redis", matchIfMissing = true)
+public class RedisEmailVerificationStore implements EmailVerificationStore {
+
+  private static final String CODE_KEY_PREFIX = "email_verification:";
+  private static final String VERIFIED_KEY_PREFIX = "email_verified:";
+  private static final String QUOTA_KEY_PREFIX = "email_verification_quota:";
+
+  // KEYS[1]=코드 키, KEYS[2]=인증 완료 키, KEYS[3]=한도 키
+  // ARGV[1]=코드, ARGV[2]=TTL(ms), ARGV[3]=창 안의 최대 발송 횟수, ARGV[4]=창 길이(ms)
+  // 반환: 1=저장, 0=발송 한도 초과
+  private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+      if tonumber(redis.call('HGET', KEYS[3], 'sends') or '0') >= tonumber(ARGV[3]) then
+        return 0
+      end
+      if redis.call('HINCRBY', KEYS[3], 'sends', 1) == 1 then
+        redis.call('PEXPIRE', KEYS[3], ARGV[4])
+      end
+      redis.call('DEL', KEYS[1], KEYS[2])
+      redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+      redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      return 1
+      """, Long.class);
+
+  // KEYS[1]=코드 키, KEYS[2]=인증 완료 키, KEYS[3]=한도 키
+  // ARGV[1]=입력 코드, ARGV[2]=코드별 최대 시도 횟수, ARGV[3]=인증 유지 TTL(ms),
+  // ARGV[4]=창 안의 최대 시도 횟수, ARGV[5]=창 길이(ms)
+  // 반환: 2=인증 완료, 1=이미 인증됨, 0=불일치, -1=없음/만료, -2=시도 횟수 초과
+  private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[2]) == 1 then
+        return 1
+      end
+      local code = redis.call('HGET', KEYS[1], 'code')
+      if not code then
+        return -1
+      end
+      local windowAttempts = redis.call('HINCRBY', KEYS[3], 'attempts', 1)
+      if redis.call('PTTL', KEYS[3]) < 0 then
+        redis.call('PEXPIRE', KEYS[3], ARGV[5])
+      end
+      if redis.call('HINCRBY', KEYS[1], 'attempts', 1) > tonumber(ARGV[2])
+          or windowAttempts > tonumber(ARGV[4]) then
+        return -2
+      end
+      if code ~= ARGV[1] then
+        return 0
+      end
+      redis.call('DEL', KEYS[1])
+      redis.call('SET', KEYS[2], '1', 'PX', ARGV[3])
+      return 2
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final int maxAttempts;
+  private final Duration verifiedTtl;
+  private final int maxSendsPerWindow;
+  private final int maxAttemptsPerWindow;
+  private final Duration window;
+
+  public RedisEmailVerificationStore(RedisTemplate<String, String> redisTemplate,
+      @Value("${auth.email-verification.max-attempts:5}") int maxAttempts,
+      @Value("${auth.email-verification.verified-ttl-minutes:1440}") long verifiedTtlMinutes,
+      @Value("${auth.email-verification.window.max-sends:5}") int maxSendsPerWindow,
+      @Value("${auth.email-verification.window.max-attempts:15}") int maxAttemptsPerWindow,
+      @Value("${auth.email-verification.window.minutes:60}") long windowMinutes) {
+    this.redisTemplate = redisTemplate;
+    this.maxAttempts = maxAttempts;
+    this.verifiedTtl = Duration.ofMinutes(verifiedTtlMinutes);
+    this.maxSendsPerWindow = maxSendsPerWindow;
+    this.maxAttemptsPerWindow = maxAttemptsPerWindow;
+    this.window = Duration.ofMinutes(windowMinutes);
+  }
+
+  @Override
+  public boolean saveCode(String email, String code, Duration ttl) {
+    Long result = redisTemplate.execute(SAVE_SCRIPT, keys(email), code,
+        String.valueOf(ttl.toMillis()), String.valueOf(maxSendsPerWindow),
+        String.valueOf(window.toMillis()));
+    return result != null && result == 1L;
+  }
+
+  @Override
+  public VerifyResult verify(String email, String code) {
+    Long result = redisTemplate.execute(VERIFY_SCRIPT, keys(email),
+        code, String.valueOf(maxAttempts), String.valueOf(verifiedTtl.toMillis()),
+        String.valueOf(maxAttemptsPerWindow), String.valueOf(window.toMillis()));
+    if (result == null) {
+      return VerifyResult.NOT_FOUND;
+    }
+    return switch (result.intValue()) {
+      case 2 -> VerifyResult.VERIFIED;
+      case 1 -> VerifyResult.ALREADY_VERIFIED;
+      case 0 -> VerifyResult.MISMATCH;
+      case -2 -> VerifyResult.TOO_MANY_ATTEMPTS;
+      default -> VerifyResult.NOT_FOUND;
+    };
+  }
+
+  @Override
+  public boolean isVerified(String email) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(VERIFIED_KEY_PREFIX + normalize(email)));
+  }
+
+  private static List<String> keys(String email) {
+    String normalized = normalize(email);
+    return List.of(CODE_KEY_PREFIX + normalized, VERIFIED_KEY_PREFIX + normalized,
+        QUOTA_KEY_PREFIX + normalized);
+  }
+
+  // email_verification 테이블 조회와 같이 대소문자 구분 없이 취급
+  private static String normalize(String email) {
+    return email.trim().toLowerCase(Locale.ROOT);
+  }
+}
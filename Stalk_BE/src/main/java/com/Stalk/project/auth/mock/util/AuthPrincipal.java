@@ -0,0 +1,18 @@
+package com.Stalk.project.auth.mock.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 {@link TokenPrincipal} 파라미터에 붙이면
+ * Authorization 헤더를 파싱한 결과가 주입된다 ({@link AuthPrincipalArgumentResolver}).
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AuthPrincipal {
+
+}
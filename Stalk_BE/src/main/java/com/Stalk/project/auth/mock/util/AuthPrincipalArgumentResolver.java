@@ -0,0 +1,39 @@
+package com.Stalk.project.auth.mock.util;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link AuthPrincipal} {@link TokenPrincipal} 파라미터 리졸버
+ * <p>
+ * 요청당 한 번만 토큰을 파싱하고, 결과는 요청 속성에 보관해 같은 요청 안에서 재사용한다.
+ */
+public class AuthPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private static final String ATTRIBUTE = TokenPrincipal.class.getName();
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return parameter.hasParameterAnnotation(AuthPrincipal.class)
+        && TokenPrincipal.class.equals(parameter.getParameterType());
+  }
+
+  @Override
+  public TokenPrincipal resolveArgument(MethodParameter parameter,
+      ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+      WebDataBinderFactory binderFactory) {
+    Object cached = webRequest.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (cached instanceof TokenPrincipal principal) {
+      return principal;
+    }
+
+    TokenPrincipal principal = TokenUtils.parse(webRequest.getHeader(HttpHeaders.AUTHORIZATION));
+    webRequest.setAttribute(ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+    return principal;
+  }
+}
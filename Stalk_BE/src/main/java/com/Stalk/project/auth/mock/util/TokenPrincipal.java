@@ -0,0 +1,11 @@
+package com.Stalk.project.auth.mock.util;
+
+/**
+ * Authorization 헤더에서 추출한 요청 사용자 정보
+ *
+ * @param userId 사용자 ID (users.id)
+ * @param role   사용자 역할 (USER / ADVISOR / ADMIN)
+ */
+public record TokenPrincipal(Long userId, String role) {
+
+}
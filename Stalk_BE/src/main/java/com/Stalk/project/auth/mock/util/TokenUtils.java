@@ -2,121 +2,88 @@ package com.Stalk.project.auth.mock.util;
 
 import com.Stalk.project.exception.BaseException;
 import com.Stalk.project.response.BaseResponseStatus;
-import lombok.extern.slf4j.Slf4j;
 
 /**
- * Mock 토큰 파싱 유틸리티 (디버깅 버전)
+ * Mock 토큰 파싱 유틸리티
  * <p>
  * 토큰 형식: MOCK_TOKEN_{uuid}_{type}_{userId}_{role} 예시: "MOCK_TOKEN_a1b2c3d4_ACCESS_1001_USER"
+ * <p>
+ * 헤더를 한 번만 앞에서부터 훑으며 '_' 위치를 찾아 userId / role 을 꺼낸다 (split·정규식·중간 문자열 없음).
  */
-@Slf4j
 public class TokenUtils {
 
   private static final String TOKEN_PREFIX = "Bearer ";
   private static final String MOCK_TOKEN_PREFIX = "MOCK_TOKEN_";
 
-  /**
-   * Authorization 헤더에서 사용자 ID 추출
-   */
-  public static Long extractUserId(String authorizationHeader) {
-    log.info("토큰 추출 시작: {}", authorizationHeader);
-    String token = extractToken(authorizationHeader);
-    log.info("추출된 토큰: {}", token);
-    return parseUserId(token);
-  }
+  // 자주 쓰이는 역할은 상수 문자열을 그대로 돌려준다
+  private static final String[] KNOWN_ROLES = {"USER", "ADVISOR", "ADMIN"};
 
-  /**
-   * Authorization 헤더에서 사용자 역할 추출
-   */
-  public static String extractRole(String authorizationHeader) {
-    String token = extractToken(authorizationHeader);
-    return parseRole(token);
+  private TokenUtils() {
   }
 
   /**
-   * Authorization 헤더에서 토큰 추출
+   * Authorization 헤더에서 사용자 ID / 역할을 한 번에 추출
    */
-  private static String extractToken(String authorizationHeader) {
-    if (authorizationHeader == null || authorizationHeader.trim().isEmpty()) {
-      log.warn("Authorization 헤더가 없습니다.");
+  public static TokenPrincipal parse(String authorizationHeader) {
+    if (authorizationHeader == null || authorizationHeader.isBlank()) {
       throw new BaseException(BaseResponseStatus.MISSING_TOKEN);
     }
-
     if (!authorizationHeader.startsWith(TOKEN_PREFIX)) {
-      log.warn("잘못된 토큰 형식: {}", authorizationHeader);
       throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
     }
 
-    return authorizationHeader.substring(TOKEN_PREFIX.length()).trim();
-  }
-
-  /**
-   * Mock 토큰에서 사용자 ID 파싱 (수정된 버전)
-   */
-  private static Long parseUserId(String token) {
-    try {
-      log.info("토큰 파싱 시작: {}", token);
-
-      if (!token.startsWith(MOCK_TOKEN_PREFIX)) {
-        log.error("Mock 토큰 접두사가 없습니다: {}", token);
-        throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
-      }
+    // "Bearer " 뒤 토큰 구간 [start, end) (앞뒤 공백 제외)
+    int start = TOKEN_PREFIX.length();
+    int end = authorizationHeader.length();
+    while (start < end && authorizationHeader.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && authorizationHeader.charAt(end - 1) <= ' ') {
+      end--;
+    }
 
-      // MOCK_TOKEN_{uuid}_{type}_{userId}_{role} 형식 파싱
-      String[] parts = token.split("_");
-      log.info("토큰 분할 결과: {}", String.join(" | ", parts));
-      log.info("분할된 파트 수: {}", parts.length);
+    if (!authorizationHeader.startsWith(MOCK_TOKEN_PREFIX, start)) {
+      throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
+    }
 
-      // 최소 5개 파트 필요: ["MOCK", "TOKEN", "uuid", "type", "userId", "role"]
-      if (parts.length < 6) {
-        log.error("토큰 파트 수 부족. 기대값: 6, 실제값: {}", parts.length);
-        throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
-      }
+    // {uuid}_{type}_ 건너뛰기
+    int uuidEnd = nextSeparator(authorizationHeader, start + MOCK_TOKEN_PREFIX.length(), end);
+    int typeEnd = nextSeparator(authorizationHeader, uuidEnd + 1, end);
 
-      // parts[4]가 userId (0: MOCK, 1: TOKEN, 2: uuid, 3: type, 4: userId, 5: role)
-      String userIdStr = parts[4];
-      log.info("추출된 사용자 ID 문자열: {}", userIdStr);
+    int userIdStart = typeEnd + 1;
+    int userIdEnd = nextSeparator(authorizationHeader, userIdStart, end);
 
-      Long userId = Long.parseLong(userIdStr);
-      log.info("파싱된 사용자 ID: {}", userId);
-      return userId;
+    int roleStart = userIdEnd + 1;
+    int roleEnd = authorizationHeader.indexOf('_', roleStart);
+    if (roleEnd < 0 || roleEnd > end) {
+      roleEnd = end;
+    }
+    if (roleStart >= roleEnd) {
+      throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
+    }
 
+    Long userId;
+    try {
+      userId = Long.parseLong(authorizationHeader, userIdStart, userIdEnd, 10);
     } catch (NumberFormatException e) {
-      log.error("사용자 ID 숫자 변환 실패: {}", token, e);
-      throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
-    } catch (BaseException e) {
-      throw e;
-    } catch (Exception e) {
-      log.error("토큰 파싱 중 예상치 못한 오류: {}", token, e);
       throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
     }
+
+    return new TokenPrincipal(userId, role(authorizationHeader, roleStart, roleEnd));
   }
 
   /**
-   * Mock 토큰에서 사용자 역할 파싱 (수정된 버전)
+   * Authorization 헤더에서 사용자 ID 추출
    */
-  private static String parseRole(String token) {
-    try {
-      if (!token.startsWith(MOCK_TOKEN_PREFIX)) {
-        throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
-      }
-
-      String[] parts = token.split("_");
-      if (parts.length < 6) {
-        throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
-      }
-
-      // parts[5]가 role
-      String role = parts[5];
-      log.debug("토큰에서 사용자 역할 추출: {}", role);
-      return role;
+  public static Long extractUserId(String authorizationHeader) {
+    return parse(authorizationHeader).userId();
+  }
 
-    } catch (BaseException e) {
-      throw e;
-    } catch (Exception e) {
-      log.error("토큰에서 역할 파싱 중 오류: {}", token, e);
-      throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
-    }
+  /**
+   * Authorization 헤더에서 사용자 역할 추출
+   */
+  public static String extractRole(String authorizationHeader) {
+    return parse(authorizationHeader).role();
   }
 
   /**
@@ -124,10 +91,31 @@ public class TokenUtils {
    */
   public static boolean isValidToken(String authorizationHeader) {
     try {
-      extractUserId(authorizationHeader);
+      parse(authorizationHeader);
       return true;
     } catch (BaseException e) {
       return false;
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * from 부터 다음 '_' 위치 (빈 구간이거나 end 안에 없으면 INVALID_TOKEN_FORMAT)
+   */
+  private static int nextSeparator(String header, int from, int end) {
+    int index = header.indexOf('_', from);
+    if (index <= from || index >= end) {
+      throw new BaseException(BaseResponseStatus.INVALID_TOKEN_FORMAT);
+    }
+    return index;
+  }
+
+  private static String role(String header, int start, int end) {
+    int length = end - start;
+    for (String known : KNOWN_ROLES) {
+      if (known.length() == length && header.startsWith(known, start)) {
+        return known;
+      }
+    }
+    return header.substring(start, end);
+  }
+}
@@ -20,7 +20,8 @@ import com.Stalk.project.community.dto.out.WritePermissionResponseDto;
 import com.Stalk.project.community.service.CommunityService;
 import com.Stalk.project.response.BaseResponse;
 import com.Stalk.project.util.CursorPage;
-import com.Stalk.project.auth.mock.util.TokenUtils;
+import com.Stalk.project.auth.mock.util.AuthPrincipal;
+import com.Stalk.project.auth.mock.util.TokenPrincipal;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -37,7 +38,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -75,14 +75,13 @@ public class CommunityController {
   @Operation(summary = "글쓰기 권한 체크", description = "현재 사용자의 글쓰기 권한을 확인합니다.")
   @GetMapping("/posts/write-permission")
   public BaseResponse<WritePermissionResponseDto> checkWritePermission(
-      @Parameter(description = "인증 토큰", required = true)
-      @RequestHeader("Authorization") String authorizationHeader) {
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal) {
 
     log.info("글쓰기 권한 체크 요청");
 
     try {
       WritePermissionResponseDto result = communityService.checkWritePermission(
-          authorizationHeader);
+          principal);
       return new BaseResponse<>(result);
 
     } catch (Exception e) {
@@ -94,15 +93,14 @@ public class CommunityController {
   @Operation(summary = "커뮤니티 글 작성", description = "새로운 커뮤니티 글을 작성합니다.")
   @PostMapping("/posts")
   public BaseResponse<CommunityPostCreateResponseDto> createCommunityPost(
-      @Parameter(description = "인증 토큰", required = true)
-      @RequestHeader("Authorization") String authorizationHeader,
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal,
       @Valid @RequestBody CommunityPostCreateRequestDto requestDto) {
 
     log.info("커뮤니티 글 작성 요청: {}", requestDto);
 
     try {
       CommunityPostCreateResponseDto result = communityService.createCommunityPost(
-          authorizationHeader, requestDto);
+          principal, requestDto);
       return new BaseResponse<>(result);
 
     } catch (Exception e) {
@@ -131,12 +129,16 @@ public class CommunityController {
       @RequestParam(defaultValue = "1") int commentPageNo,
 
       @Parameter(description = "댓글 페이지 크기", example = "10")
-      @RequestParam(defaultValue = "10") int commentPageSize
+      @RequestParam(defaultValue = "10") int commentPageSize,
+
+      @Parameter(description = "댓글 커서 (이전 응답 comments.nextCursor 값, 지정 시 commentPageNo 무시)")
+      @RequestParam(required = false) String commentCursor
   ) {
 
     CommunityPostDetailRequestDto requestDto = new CommunityPostDetailRequestDto();
     requestDto.setCommentPageNo(commentPageNo);
     requestDto.setCommentPageSize(commentPageSize);
+    requestDto.setCommentCursor(commentCursor);
 
     CommunityPostDetailDto result = communityService.getCommunityPostDetail(postId, requestDto);
 
@@ -160,15 +162,13 @@ public class CommunityController {
       @Parameter(description = "글 ID", example = "1")
       @PathVariable Long postId,
 
-      @Parameter(description = "인증 토큰", required = true)
-      @RequestHeader("Authorization") String authorization,
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal,
 
       @Valid @RequestBody CommunityPostUpdateRequestDto requestDto
   ) {
 
-    // 토큰에서 사용자 정보 추출
-    Long currentUserId = TokenUtils.extractUserId(authorization);
-    String currentUserRole = TokenUtils.extractRole(authorization);
+    Long currentUserId = principal.userId();
+    String currentUserRole = principal.role();
 
     // ✅ 수정: 수정 서비스 호출 및 올바른 응답 타입
     CommunityPostUpdateResponseDto result = communityService.updateCommunityPost(
@@ -198,13 +198,11 @@ public class CommunityController {
       @Parameter(description = "글 ID", example = "1")
       @PathVariable Long postId,
 
-      @Parameter(description = "인증 토큰", required = true)
-      @RequestHeader("Authorization") String authorization
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal
   ) {
 
-    // 토큰에서 사용자 정보 추출
-    Long currentUserId = TokenUtils.extractUserId(authorization);
-    String currentUserRole = TokenUtils.extractRole(authorization);
+    Long currentUserId = principal.userId();
+    String currentUserRole = principal.role();
 
     CommunityPostDeleteResponseDto result = communityService.deleteCommunityPost(
         postId,
@@ -223,10 +221,10 @@ public class CommunityController {
   @PostMapping("/posts/{postId}/comments")
   public BaseResponse<CommunityCommentCreateResponseDto> createComment(
       @PathVariable("postId") Long postId,
-      @RequestHeader("Authorization") String authorization,
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal,
       @Valid @RequestBody CommunityCommentCreateRequestDto requestDto) {
 
-    Long userId = TokenUtils.extractUserId(authorization);
+    Long userId = principal.userId();
     CommunityCommentCreateResponseDto result = communityService.createComment(postId, userId,
         requestDto);
     return new BaseResponse<>(result);
@@ -250,11 +248,11 @@ public class CommunityController {
   @PutMapping("/comments/{commentId}")
   public BaseResponse<CommunityCommentUpdateResponseDto> updateComment(
       @PathVariable("commentId") Long commentId,
-      @RequestHeader("Authorization") String authorization,
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal,
       @Valid @RequestBody CommunityCommentUpdateRequestDto requestDto) {
 
-    Long userId = TokenUtils.extractUserId(authorization);
-    String userRole = TokenUtils.extractRole(authorization);
+    Long userId = principal.userId();
+    String userRole = principal.role();
 
     CommunityCommentUpdateResponseDto result = communityService.updateComment(commentId, userId,
         userRole, requestDto);
@@ -267,10 +265,10 @@ public class CommunityController {
   @DeleteMapping("/comments/{commentId}")
   public BaseResponse<CommunityCommentDeleteResponseDto> deleteComment(
       @PathVariable("commentId") Long commentId,
-      @RequestHeader("Authorization") String authorization) {
+      @Parameter(hidden = true) @AuthPrincipal TokenPrincipal principal) {
 
-    Long userId = TokenUtils.extractUserId(authorization);
-    String userRole = TokenUtils.extractRole(authorization);
+    Long userId = principal.userId();
+    String userRole = principal.role();
 
     CommunityCommentDeleteResponseDto result = communityService.deleteComment(commentId, userId,
         userRole);
@@ -7,10 +7,11 @@ import com.Stalk.project.community.dto.out.CommunityCommentPermissionDto;
 import com.Stalk.project.community.dto.out.CommunityPostDetailDto;
 import com.Stalk.project.community.dto.out.CommunityPostPermissionDto;
 import com.Stalk.project.community.dto.out.CommunityPostSummaryDto;
-import com.Stalk.project.util.PageRequestDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -64,15 +65,43 @@ public interface CommunityMapper {
   CommunityPostDetailDto findCommunityPostDetail(@Param("postId") Long postId);
 
   /**
-   * 커뮤니티 글의 댓글 목록 조회 (페이징 적용)
+   * 글별 조회수 증가분 일괄 반영 (UPDATE ... CASE)
    *
-   * @param postId       글 ID
-   * @param offset       시작 위치
-   * @param limitPlusOne 조회할 개수 + 1 (hasNext 판단용)
+   * @param deltas 글 ID별 증가분
+   * @return 반영된 글 수
+   */
+  int addViewCounts(@Param("deltas") List<PostCountDeltaDto> deltas);
+
+  /**
+   * 글별 댓글 수 증감분 일괄 반영 (UPDATE ... CASE, 0 미만 방지)
+   *
+   * @param deltas 글 ID별 증감분
+   * @return 반영된 글 수
+   */
+  int addCommentCounts(@Param("deltas") List<PostCountDeltaDto> deltas);
+
+  /**
+   * 댓글 수 보정 (실제 댓글 수와 다른 글만 갱신)
+   *
+   * @param excludedPostIds 아직 반영되지 않은 증감분이 있을 수 있어 건너뛸 글 ID
+   * @return 보정된 글 수
+   */
+  int reconcileCommentCounts(@Param("excludedPostIds") Collection<Long> excludedPostIds);
+
+  /**
+   * 커뮤니티 글의 댓글 목록 조회 (글 상세 / 댓글 더보기 공용)
+   *
+   * @param postId          글 ID
+   * @param cursorCreatedAt 커서의 작성 시각 (null이면 offset 사용)
+   * @param cursorId        커서의 댓글 ID (null이면 offset 사용)
+   * @param offset          시작 위치 (커서가 없을 때만 사용)
+   * @param limitPlusOne    조회할 개수 + 1 (hasNext 판단용)
    * @return 댓글 목록
    */
   List<CommunityCommentDto> findCommunityPostComments(
       @Param("postId") Long postId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
       @Param("offset") int offset,
       @Param("limitPlusOne") int limitPlusOne
   );
@@ -124,10 +153,6 @@ public interface CommunityMapper {
   // 2. 마지막 생성된 댓글 ID 조회
   Long getLastInsertedCommentId();
 
-  // 3. 댓글 목록 조회 (페이징)
-  List<CommunityCommentDto> findCommentsByPostId(@Param("postId") Long postId,
-      @Param("pageRequest") PageRequestDto pageRequest);
-
   // 4. 댓글 권한 확인 (수정/삭제용)
   CommunityCommentPermissionDto findCommentPermission(@Param("commentId") Long commentId);
 
@@ -0,0 +1,19 @@
+package com.Stalk.project.community.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 글별 카운터 증감분 DTO MyBatis 일괄 UPDATE (CASE) 파라미터로 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PostCountDeltaDto {
+
+  private Long postId;   // 글 ID
+  private long delta;    // 반영할 증감분
+}
@@ -1,6 +1,7 @@
 package com.Stalk.project.community.dto.in;
 
 import com.Stalk.project.util.PageRequestDto;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,4 +14,6 @@ public class CommunityCommentListRequestDto extends PageRequestDto {
   // 부모 클래스의 pageNo, pageSize 그대로 사용
   // 필요시 추가 필터링 조건 여기에 추가 가능
 
+  @Schema(description = "커서 (이전 응답의 nextCursor 값). 지정하면 pageNo 대신 커서 이후부터 조회")
+  private String cursor;
 }
\ No newline at end of file
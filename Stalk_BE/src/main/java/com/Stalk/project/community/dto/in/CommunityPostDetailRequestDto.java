@@ -22,6 +22,9 @@ public class CommunityPostDetailRequestDto extends PageRequestDto {
   @Schema(description = "댓글 페이지 크기", defaultValue = "10", example = "10")
   private int commentPageSize = 10;
 
+  @Schema(description = "댓글 커서 (이전 응답 comments.nextCursor 값)")
+  private String commentCursor;
+
   // 댓글 페이징을 위한 offset 계산
   public int getCommentOffset() {
     return (commentPageNo - 1) * commentPageSize;
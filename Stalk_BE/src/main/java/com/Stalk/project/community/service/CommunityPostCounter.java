@@ -0,0 +1,237 @@
+package com.Stalk.project.community.service;
+
+import com.Stalk.project.community.dao.CommunityMapper;
+import com.Stalk.project.community.dao.PostCountDeltaDto;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커뮤니티 글 조회수 / 댓글 수 집계 (write-behind)
+ * <p>
+ * 조회·댓글 작성/삭제 시에는 글별 LongAdder 만 증감시키고, 주기적으로 모인 증감분을
+ * UPDATE ... CASE 한 번으로 묶어 DB 에 반영한다. 인기 글에 요청마다 UPDATE 가 몰려
+ * 같은 행의 잠금을 기다리는 일이 없도록 하기 위함이다.
+ * 댓글 수는 하루 한 번 실제 댓글 수로 다시 맞춘다 ({@link #reconcileCommentCounts()}).
+ * <p>
+ * 증감분은 인스턴스마다 메모리에 따로 쌓이므로, 댓글 작성/삭제 시 글 ID 와 시각을 Redis ZSET
+ * ({@value #COMMENT_ACTIVITY_KEY})에 남겨 두고 보정은 최근 활동이 없는 글에만 적용한다.
+ */
+@Slf4j
+@Component
+public class CommunityPostCounter {
+
+  // 댓글 활동 기록 (member = 글 ID, score = 마지막 댓글 작성/삭제 시각 epoch millis), 모든 인스턴스 공유
+  static final String COMMENT_ACTIVITY_KEY = "community:comment_activity";
+
+  private final CommunityMapper communityMapper;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final int batchSize;
+  private final long reconcileQuietMillis;
+
+  private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+  private final Map<Long, LongAdder> pendingComments = new ConcurrentHashMap<>();
+
+  public CommunityPostCounter(CommunityMapper communityMapper,
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${community.counter.batch-size:500}") int batchSize,
+      @Value("${community.counter.reconcile-quiet-ms:60000}") long reconcileQuietMillis) {
+    this.communityMapper = communityMapper;
+    this.redisTemplate = redisTemplate;
+    this.batchSize = batchSize;
+    this.reconcileQuietMillis = reconcileQuietMillis;
+  }
+
+  /**
+   * 조회수 1 증가 (메모리)
+   */
+  public void incrementView(Long postId) {
+    add(pendingViews, postId, 1);
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 조회수
+   */
+  public long pendingViews(Long postId) {
+    LongAdder adder = pendingViews.get(postId);
+    return adder == null ? 0L : adder.sum();
+  }
+
+  /**
+   * 댓글 수 증감 (메모리), 트랜잭션 안이면 커밋된 뒤에만 반영
+   * <p>
+   * 활동 기록은 커밋 전에 남겨, 댓글이 커밋됐는데 기록이 없는 구간이 생기지 않게 한다.
+   */
+  public void addComments(Long postId, long delta) {
+    markCommentActivity(List.of(postId));
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add(pendingComments, postId, delta);
+        }
+      });
+      return;
+    }
+    add(pendingComments, postId, delta);
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 댓글 수 증감분
+   */
+  public long pendingComments(Long postId) {
+    LongAdder adder = pendingComments.get(postId);
+    return adder == null ? 0L : adder.sum();
+  }
+
+  /**
+   * 글 삭제 시 해당 글의 미반영 댓글 수 폐기 (댓글이 모두 삭제되고 comment_count 는 0 으로 설정됨)
+   * <p>
+   * 트랜잭션 안이면 커밋된 뒤에만 폐기한다 (롤백되면 증감분이 그대로 남아야 함).
+   */
+  public void discardComments(Long postId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          pendingComments.remove(postId);
+        }
+      });
+      return;
+    }
+    pendingComments.remove(postId);
+  }
+
+  /**
+   * 모인 조회수 / 댓글 수를 DB 에 일괄 반영
+   */
+  @Scheduled(fixedDelayString = "${community.counter.flush-interval-ms:5000}")
+  public void flush() {
+    flush(pendingViews, communityMapper::addViewCounts, "조회수", false);
+    flush(pendingComments, communityMapper::addCommentCounts, "댓글 수", true);
+  }
+
+  /**
+   * 댓글 수 정합성 보정, 실제 댓글 수와 다른 글만 GROUP BY 한 번으로 다시 계산
+   * <p>
+   * 이 인스턴스의 증감분은 먼저 반영한다. 다른 인스턴스의 미반영 증감분이나 커밋 직후 들어올 증감분은
+   * 보정값 위에 다시 더해지면 틀어지므로, reconcile-quiet-ms 안에 댓글 활동이 있었던 글은 건너뛰고
+   * 다음 보정에서 맞춘다. (quiet 구간은 flush 주기보다 충분히 길어야 함)
+   */
+  @Scheduled(cron = "${community.counter.reconcile-cron:0 30 4 * * *}")
+  public void reconcileCommentCounts() {
+    flush(pendingComments, communityMapper::addCommentCounts, "댓글 수", true);
+
+    long quietSince = System.currentTimeMillis() - reconcileQuietMillis;
+    Set<Long> activePostIds;
+    try {
+      redisTemplate.opsForZSet().removeRangeByScore(COMMENT_ACTIVITY_KEY, 0, quietSince);
+      activePostIds = redisTemplate.opsForZSet()
+          .rangeByScore(COMMENT_ACTIVITY_KEY, quietSince, Double.POSITIVE_INFINITY)
+          .stream()
+          .map(Long::valueOf)
+          .collect(Collectors.toSet());
+    } catch (Exception e) {
+      // 어떤 글에 증감분이 남아 있는지 모르면 보정하지 않는다
+      log.warn("댓글 활동 기록 조회 실패, 댓글 수 보정 건너뜀", e);
+      return;
+    }
+
+    int updated = communityMapper.reconcileCommentCounts(activePostIds);
+    log.info("댓글 수 보정 완료: updatedPosts={}, skippedActivePosts={}", updated,
+        activePostIds.size());
+  }
+
+  private void flush(Map<Long, LongAdder> counters, Consumer<List<PostCountDeltaDto>> writer,
+      String name, boolean commentCounts) {
+    List<PostCountDeltaDto> deltas = drain(counters);
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    for (int from = 0; from < deltas.size(); from += batchSize) {
+      List<PostCountDeltaDto> batch = deltas.subList(from,
+          Math.min(from + batchSize, deltas.size()));
+      try {
+        writer.accept(batch);
+      } catch (Exception e) {
+        // 반영 실패분은 다음 주기에 다시 시도
+        log.warn("{} 반영 실패, 다음 주기에 재시도: count={}", name, batch.size(), e);
+        restore(counters, batch);
+        if (commentCounts) {
+          // 재시도 전에 보정이 돌더라도 이 글들은 건너뛰도록 활동 시각 갱신
+          markCommentActivity(batch.stream().map(PostCountDeltaDto::getPostId).toList());
+        }
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /**
+   * 현재까지의 증가분을 꺼낸다
+   * <p>
+   * sumThenReset 은 셀마다 값을 읽으면서 0 으로 바꾸므로, 꺼내는 중에 들어온 증가분은 빠지거나 중복되지 않고
+   * 다음 주기에 반영된다. adder 는 맵에 그대로 두어 증감 경로가 락 없이 같은 adder 에 더하게 한다.
+   */
+  private List<PostCountDeltaDto> drain(Map<Long, LongAdder> counters) {
+    List<PostCountDeltaDto> deltas = new ArrayList<>();
+    counters.forEach((postId, adder) -> {
+      long delta = adder.sumThenReset();
+      if (delta != 0) {
+        deltas.add(new PostCountDeltaDto(postId, delta));
+      }
+    });
+    return deltas;
+  }
+
+  /**
+   * 댓글 활동 기록, Redis 장애로 댓글 작성/삭제가 실패하지 않도록 예외는 로그만 남긴다
+   */
+  private void markCommentActivity(List<Long> postIds) {
+    try {
+      double now = System.currentTimeMillis();
+      for (Long postId : postIds) {
+        redisTemplate.opsForZSet().add(COMMENT_ACTIVITY_KEY, String.valueOf(postId), now);
+      }
+    } catch (Exception e) {
+      log.warn("댓글 활동 기록 실패: postIds={}", postIds, e);
+    }
+  }
+
+  private void restore(Map<Long, LongAdder> counters, List<PostCountDeltaDto> deltas) {
+    for (PostCountDeltaDto delta : deltas) {
+      add(counters, delta.getPostId(), delta.getDelta());
+    }
+  }
+
+  /**
+   * 증감 (같은 글의 동시 증가는 LongAdder 셀로 분산되어 서로 기다리지 않는다)
+   * <p>
+   * 글별 adder 는 처음 한 번만 만들고 drain 에서 제거하지 않으므로 (글 삭제 시 {@link #discardComments} 제외),
+   * 꺼낸 adder 가 맵에서 떨어져 증가분이 유실되는 경우가 없다. 맵 크기는 기동 후 조회·댓글이 있었던 글 수로 제한된다.
+   */
+  private static void add(Map<Long, LongAdder> counters, Long postId, long delta) {
+    LongAdder adder = counters.get(postId);
+    if (adder == null) {
+      adder = counters.computeIfAbsent(postId, id -> new LongAdder());
+    }
+    adder.add(delta);
+  }
+}
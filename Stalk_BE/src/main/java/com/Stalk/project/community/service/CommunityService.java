@@ -1,6 +1,6 @@
 package com.Stalk.project.community.service;
 
-import com.Stalk.project.auth.mock.util.TokenUtils;
+import com.Stalk.project.auth.mock.util.TokenPrincipal;
 import com.Stalk.project.community.dao.CommunityMapper;
 import com.Stalk.project.community.dto.in.CommunityCommentCreateRequestDto;
 import com.Stalk.project.community.dto.in.CommunityCommentListRequestDto;
@@ -24,6 +24,7 @@ import com.Stalk.project.community.dto.out.CommunityPostUpdateResponseDto;
 import com.Stalk.project.community.dto.out.WritePermissionResponseDto;
 import com.Stalk.project.exception.BaseException;
 import com.Stalk.project.response.BaseResponseStatus;
+import com.Stalk.project.util.CursorCodec;
 import com.Stalk.project.util.CursorPage;
 
 import java.time.ZoneId;
@@ -45,6 +46,7 @@ import java.util.stream.Collectors;
 public class CommunityService {
 
   private final CommunityMapper communityMapper;
+  private final CommunityPostCounter postCounter;
 
   /**
    * 커뮤니티 글 목록 조회
@@ -61,6 +63,9 @@ public class CommunityService {
     PostCategory postCategory = requestDto.getCategory();
     String categoryFilter = postCategory == PostCategory.ALL ? null : postCategory.name();
 
+    // 커서 처리 (카테고리|created_at|id), 커서가 있으면 OFFSET 대신 커서 이후부터 조회
+    decodePostCursor(requestDto, postCategory);
+
     // 데이터 조회
     List<CommunityPostSummaryDto> posts = communityMapper.findCommunityPosts(
         categoryFilter, requestDto);
@@ -73,13 +78,17 @@ public class CommunityService {
 
     // CursorPage 처리
     boolean hasNext = posts.size() > requestDto.getPageSize();
+    String nextCursor = null;
     if (hasNext) {
       posts.remove(posts.size() - 1);
+      CommunityPostSummaryDto lastPost = posts.get(posts.size() - 1);
+      nextCursor = CursorCodec.encode(postCategory.name(),
+          CursorCodec.dateTimeValue(lastPost.getCreatedAt()), lastPost.getPostId());
     }
 
     return CursorPage.<CommunityPostSummaryDto>builder()
         .content(posts)
-        .nextCursor(null) // 커뮤니티는 단순 페이지네이션으로 처리
+        .nextCursor(nextCursor)
         .hasNext(hasNext)
         .pageSize(requestDto.getPageSize())
         .pageNo(requestDto.getPageNo())
@@ -89,15 +98,10 @@ public class CommunityService {
   /**
    * 글쓰기 권한 체크
    */
-  public WritePermissionResponseDto checkWritePermission(String authorizationHeader) {
-    log.info("글쓰기 권한 체크 시작");
-
+  public WritePermissionResponseDto checkWritePermission(TokenPrincipal principal) {
     try {
-      // 토큰에서 사용자 정보 추출
-      Long userId = TokenUtils.extractUserId(authorizationHeader);
-      String userRole = TokenUtils.extractRole(authorizationHeader);
-
-      log.info("토큰에서 추출된 사용자 정보 - userId: {}, role: {}", userId, userRole);
+      Long userId = principal.userId();
+      String userRole = principal.role();
 
       // 사용자 정보 조회
       String userName = communityMapper.findUserNameById(userId);
@@ -142,16 +146,11 @@ public class CommunityService {
    * 커뮤니티 글 작성
    */
   @Transactional
-  public CommunityPostCreateResponseDto createCommunityPost(String authorizationHeader,
+  public CommunityPostCreateResponseDto createCommunityPost(TokenPrincipal principal,
       CommunityPostCreateRequestDto requestDto) {
-    log.info("커뮤니티 글 작성 시작: {}", requestDto);
-
     try {
-      // 토큰에서 사용자 정보 추출
-      Long userId = TokenUtils.extractUserId(authorizationHeader);
-      String userRole = TokenUtils.extractRole(authorizationHeader);
-
-      log.info("글 작성자 정보 - userId: {}, role: {}", userId, userRole);
+      Long userId = principal.userId();
+      String userRole = principal.role();
 
       // 권한 검증
       validateWritePermission(userRole, requestDto.getCategory());
@@ -199,6 +198,24 @@ public class CommunityService {
     // ADVISOR는 모든 카테고리 작성 가능 (추가 검증 없음)
   }
 
+  /**
+   * 글 목록 커서 디코딩, 다른 카테고리에서 발급된 커서는 거부
+   */
+  private void decodePostCursor(CommunityPostListRequestDto requestDto, PostCategory category) {
+    String cursor = requestDto.getCursor();
+    if (cursor == null || cursor.isBlank()) {
+      requestDto.applyDecodedCursor(null, null);
+      return;
+    }
+
+    String[] parts = CursorCodec.decode(cursor, 3);
+    if (!category.name().equals(parts[0])) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+    }
+    requestDto.applyDecodedCursor(CursorCodec.parseDateTime(parts[1]),
+        CursorCodec.parseLong(parts[2]));
+  }
+
   /**
    * 페이지 요청 검증
    */
@@ -224,9 +241,22 @@ public class CommunityService {
       throw new BaseException(BaseResponseStatus.COMMUNITY_POST_NOT_FOUND);
     }
 
-    // 2. 댓글 목록 조회 (페이징 적용)
+    // 1-1. 조회수 증가 (메모리 집계 후 주기적으로 DB 반영), 응답에는 미반영분까지 포함
+    postCounter.incrementView(postId);
+    int storedViews = postDetail.getViewCount() == null ? 0 : postDetail.getViewCount();
+    postDetail.setViewCount((int) (storedViews + postCounter.pendingViews(postId)));
+
+    // 1-2. 댓글 수도 미반영 증감분 포함
+    int storedComments = postDetail.getCommentCount() == null ? 0 : postDetail.getCommentCount();
+    postDetail.setCommentCount(
+        (int) Math.max(0, storedComments + postCounter.pendingComments(postId)));
+
+    // 2. 댓글 목록 조회 (커서가 있으면 커서 이후, 없으면 페이지 번호 기준)
+    CommentCursor cursor = decodeCommentCursor(postId, requestDto.getCommentCursor());
     List<CommunityCommentDto> comments = communityMapper.findCommunityPostComments(
         postId,
+        cursor.createdAt(),
+        cursor.commentId(),
         requestDto.getCommentOffset(),
         requestDto.getCommentLimitPlusOne()
     );
@@ -240,7 +270,7 @@ public class CommunityService {
     // 4. CursorPage로 댓글 래핑
     CursorPage<CommunityCommentDto> commentPage = CursorPage.<CommunityCommentDto>builder()
         .content(comments)
-        .nextCursor(hasNext ? (long) (requestDto.getCommentPageNo() + 1) : null)
+        .nextCursor(hasNext ? encodeCommentCursor(postId, comments) : null)
         .hasNext(hasNext)
         .pageSize(requestDto.getCommentPageSize())
         .pageNo(requestDto.getCommentPageNo())
@@ -330,13 +360,16 @@ public class CommunityService {
       // 2-1. 글에 달린 모든 댓글 물리적 삭제
       communityMapper.deleteAllCommentsOfPost(postId);
 
-      // 2-2. 글 논리적 삭제
+      // 2-2. 글 논리적 삭제 (댓글 수 0 으로 초기화)
       int deletedRows = communityMapper.deleteCommunityPost(postId);
 
       if (deletedRows == 0) {
         throw new BaseException(BaseResponseStatus.POST_DELETE_FAILED);
       }
 
+      // 2-3. 반영 대기 중인 댓글 수 증감분 폐기
+      postCounter.discardComments(postId);
+
     } catch (Exception e) {
       throw new BaseException(BaseResponseStatus.POST_DELETE_FAILED);
     }
@@ -367,6 +400,9 @@ public class CommunityService {
       communityMapper.createComment(postId, userId, requestDto.getContent());
       Long commentId = communityMapper.getLastInsertedCommentId();
 
+      // 댓글 수 +1 (메모리 집계 후 주기적으로 DB 반영)
+      postCounter.addComments(postId, 1);
+
       return CommunityCommentCreateResponseDto.builder()
           .commentId(commentId)
           .createdAt(LocalDateTime.now()
@@ -389,8 +425,15 @@ public class CommunityService {
       throw new BaseException(BaseResponseStatus.COMMUNITY_POST_NOT_FOUND);
     }
 
-    // 2. 댓글 목록 조회
-    List<CommunityCommentDto> comments = communityMapper.findCommentsByPostId(postId, requestDto);
+    // 2. 댓글 목록 조회 (커서가 있으면 커서 이후, 없으면 페이지 번호 기준)
+    CommentCursor cursor = decodeCommentCursor(postId, requestDto.getCursor());
+    List<CommunityCommentDto> comments = communityMapper.findCommunityPostComments(
+        postId,
+        cursor.createdAt(),
+        cursor.commentId(),
+        requestDto.getOffset(),
+        requestDto.getLimitPlusOne()
+    );
 
     // 3. 페이징 처리
     boolean hasNext = comments.size() > requestDto.getPageSize();
@@ -400,13 +443,42 @@ public class CommunityService {
 
     return CursorPage.<CommunityCommentDto>builder()
         .content(comments)
-        .nextCursor(null) // 댓글은 단순 페이징으로 cursor 불필요
+        .nextCursor(hasNext ? encodeCommentCursor(postId, comments) : null)
         .hasNext(hasNext)
         .pageSize(requestDto.getPageSize())
         .pageNo(requestDto.getPageNo())
         .build();
   }
 
+  /**
+   * 댓글 커서 디코딩 (글ID|created_at|댓글ID), 다른 글에서 발급된 커서는 거부
+   */
+  private CommentCursor decodeCommentCursor(Long postId, String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return CommentCursor.NONE;
+    }
+
+    String[] parts = CursorCodec.decode(cursor, 3);
+    if (!String.valueOf(postId).equals(parts[0])) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+    }
+    return new CommentCursor(CursorCodec.parseDateTime(parts[1]), CursorCodec.parseLong(parts[2]));
+  }
+
+  /**
+   * 이번 페이지 마지막 댓글 기준 다음 커서
+   */
+  private String encodeCommentCursor(Long postId, List<CommunityCommentDto> comments) {
+    CommunityCommentDto lastComment = comments.get(comments.size() - 1);
+    return CursorCodec.encode(postId, CursorCodec.dateTimeValue(lastComment.getCreatedAt()),
+        lastComment.getCommentId());
+  }
+
+  private record CommentCursor(LocalDateTime createdAt, Long commentId) {
+
+    static final CommentCursor NONE = new CommentCursor(null, null);
+  }
+
   /**
    * 댓글 수정
    */
@@ -467,6 +539,9 @@ public class CommunityService {
         throw new BaseException(BaseResponseStatus.COMMENT_DELETE_FAILED);
       }
 
+      // 댓글 수 -1 (메모리 집계 후 주기적으로 DB 반영)
+      postCounter.addComments(permission.getPostId(), -1);
+
       return CommunityCommentDeleteResponseDto.builder()
           .commentId(commentId)
           .deletedAt(LocalDateTime.now()
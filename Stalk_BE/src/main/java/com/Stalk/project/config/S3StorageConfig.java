@@ -0,0 +1,75 @@
+package com.Stalk.project.config;
+
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 호환 오브젝트 스토리지 클라이언트 (file.storage.type=s3 일 때만 생성)
+ * <p>
+ * file.s3.endpoint 를 지정하면 MinIO 등 S3 호환 서버를 사용하며, 이 경우 보통 path-style 접근이 필요하다.
+ * access-key/secret-key 가 없으면 SDK 기본 자격 증명 체인(환경 변수, 인스턴스 프로파일 등)을 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3StorageConfig {
+
+  @Value("${file.s3.region:ap-northeast-2}")
+  private String region;
+
+  @Value("${file.s3.endpoint:}")
+  private String endpoint;
+
+  @Value("${file.s3.path-style-access:false}")
+  private boolean pathStyleAccess;
+
+  @Value("${file.s3.access-key:}")
+  private String accessKey;
+
+  @Value("${file.s3.secret-key:}")
+  private String secretKey;
+
+  @Bean(destroyMethod = "close")
+  public S3Client s3Client() {
+    var builder = S3Client.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .forcePathStyle(pathStyleAccess);
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  @Bean(destroyMethod = "close")
+  public S3Presigner s3Presigner() {
+    var builder = S3Presigner.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(S3Configuration.builder()
+            .pathStyleAccessEnabled(pathStyleAccess)
+            .build());
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  private AwsCredentialsProvider credentialsProvider() {
+    if (StringUtils.hasText(accessKey) && StringUtils.hasText(secretKey)) {
+      return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+    return DefaultCredentialsProvider.create();
+  }
+}
@@ -0,0 +1,26 @@
+package com.Stalk.project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 (조회수 등 집계 값의 DB 반영)
+ * <p>
+ * Spring Boot 기본 스케줄러는 스레드 1개라, 새벽 일괄 작업(평점 재계산, 댓글 수 보정, 중복 확인 필터 재생성)이
+ * 도는 동안 조회수·마지막 로그인 시각 flush 가 멈추고 미반영 값이 쌓인다. 일괄 작업이 겹쳐도 주기 flush 가
+ * 계속 돌 수 있도록 풀 크기를 늘린다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder,
+      @Value("${spring.task.scheduling.pool.size:5}") int poolSize) {
+    return builder.poolSize(poolSize).build();
+  }
+}
@@ -4,6 +4,7 @@ import com.Stalk.project.login.util.JwtAuthenticationFilter;
 import com.Stalk.project.login.util.JwtUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -52,6 +53,8 @@ public class SecurityConfig {
             ).permitAll()
             // 인증 없이 열어둘 애플리케이션 엔드포인트
             .requestMatchers("/api/**").permitAll()
+            // 업로드 파일 (img 태그 등 Authorization 헤더 없이 요청됨)
+            .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
             // 그 외 모든 요청은 인증 필요
             .anyRequest().authenticated())
         // JWT 필터를 UsernamePasswordAuthenticationFilter 전에 추가
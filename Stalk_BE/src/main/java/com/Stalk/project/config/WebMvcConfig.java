@@ -1,15 +1,20 @@
 package com.Stalk.project.config;
 
+import com.Stalk.project.auth.mock.util.AuthPrincipalArgumentResolver;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.*;
 
+import java.util.List;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    // 업로드된 파일(/uploads/**)은 upload.controller.UploadController 가 직접 서빙
+
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 파일 경로 매핑 (예: http://도메인/uploads/{filename})
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        // @AuthPrincipal TokenPrincipal 파라미터 주입
+        resolvers.add(new AuthPrincipalArgumentResolver());
     }
 }
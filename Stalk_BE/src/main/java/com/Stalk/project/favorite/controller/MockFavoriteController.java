@@ -184,7 +184,7 @@ public class MockFavoriteController {
                                     "preferredTradeStyle": "MID"
                                   }
                                 ],
-                                "nextCursor": 3,
+                                "nextCursor": "3",
                                 "hasNext": true,
                                 "pageSize": 3,
                                 "pageNo": 1
@@ -296,7 +296,7 @@ public class MockFavoriteController {
                         .toList();
 
         // CursorPage 생성
-        Long nextCursor = hasNext ? (long) (startIndex + pageRequest.getPageSize()) : null;
+        String nextCursor = hasNext ? String.valueOf(startIndex + pageRequest.getPageSize()) : null;
 
         CursorPage<FavoriteAdvisorResponseDto> cursorPage = CursorPage.<FavoriteAdvisorResponseDto>builder()
                         .content(responseList)
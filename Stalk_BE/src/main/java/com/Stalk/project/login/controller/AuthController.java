@@ -4,6 +4,8 @@ import com.Stalk.project.login.dto.in.LoginRequest;
 import com.Stalk.project.login.dto.in.RefreshRequest;
 import com.Stalk.project.login.dto.out.LoginResponse;
 import com.Stalk.project.login.service.AuthService;
+import com.Stalk.project.login.util.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.*;
@@ -13,27 +15,30 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
   private final AuthService authService;
+  private final ClientIpResolver clientIpResolver;
 
-  public AuthController(AuthService authService) {
+  public AuthController(AuthService authService, ClientIpResolver clientIpResolver) {
     this.authService = authService;
+    this.clientIpResolver = clientIpResolver;
   }
 
   @PostMapping("/login")
-  public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
-    LoginResponse response = authService.login(loginRequest);
+  public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest,
+      HttpServletRequest request) {
+    LoginResponse response = authService.login(loginRequest, clientIpResolver.resolve(request));
     return ResponseEntity.ok(response);
   }
 
   @PostMapping("/refresh")
-  public ResponseEntity<String> refresh(@RequestBody(required = false) RefreshRequest body) {
+  public ResponseEntity<LoginResponse> refresh(@RequestBody(required = false) RefreshRequest body) {
     // 1) body에 토큰이 반드시 있어야 한다
     if (body == null || body.getRefreshToken() == null || body.getRefreshToken().isBlank()) {
       throw new BadCredentialsException("Refresh token is required in request body");
     }
 
-    // 2) 서비스 호출
-    String newAccessToken = authService.refreshAccessToken(body.getRefreshToken());
-    return ResponseEntity.ok(newAccessToken);
+    // 2) 서비스 호출 (새 accessToken + 회전된 refreshToken)
+    LoginResponse response = authService.refreshAccessToken(body.getRefreshToken());
+    return ResponseEntity.ok(response);
   }
 
   @PostMapping("/logout")
@@ -47,4 +52,4 @@ public class AuthController {
     // 3) 200 OK, 빈 바디
     return ResponseEntity.ok().build();
   }
-}
\ No newline at end of file
+}
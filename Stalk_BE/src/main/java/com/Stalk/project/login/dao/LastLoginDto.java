@@ -0,0 +1,20 @@
+package com.Stalk.project.login.dao;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 사용자별 마지막 로그인 시각 DTO MyBatis 일괄 UPDATE (CASE) 파라미터로 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class LastLoginDto {
+
+  private Long id;                    // users.id
+  private LocalDateTime lastLoginAt;  // 반영할 마지막 로그인 시각
+}
@@ -1,7 +1,9 @@
 package com.Stalk.project.login.dao;
 
 import com.Stalk.project.signup.entity.User;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
@@ -10,6 +12,18 @@ public interface UserLoginMapper {
     @Select("SELECT * FROM users WHERE user_id = #{userId} AND is_active = 1")
     User findByUserId(String userId);
 
-    @Update("UPDATE users SET last_login_at = #{lastLoginAt}, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
-    void update(User user);
-}
\ No newline at end of file
+    /**
+     * 마지막 로그인 시각 일괄 반영 (이미 더 최근 값이 있으면 유지)
+     */
+    @Update({"<script>",
+        "UPDATE users SET last_login_at = CASE id",
+        "<foreach collection='logins' item='l'>",
+        "WHEN #{l.id} THEN GREATEST(COALESCE(last_login_at, #{l.lastLoginAt}), #{l.lastLoginAt})",
+        "</foreach>",
+        "ELSE last_login_at END,",
+        "updated_at = CURRENT_TIMESTAMP",
+        "WHERE id IN",
+        "<foreach collection='logins' item='l' open='(' separator=',' close=')'>#{l.id}</foreach>",
+        "</script>"})
+    int updateLastLoginAt(@Param("logins") List<LastLoginDto> logins);
+}
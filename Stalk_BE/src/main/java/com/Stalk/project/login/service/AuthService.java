@@ -4,37 +4,54 @@ import com.Stalk.project.login.dao.UserLoginMapper;
 import com.Stalk.project.login.dto.in.LoginRequest;
 import com.Stalk.project.login.dto.out.LoginResponse;
 import com.Stalk.project.signup.entity.User;
+import com.Stalk.project.login.util.JwtPrincipal;
 import com.Stalk.project.login.util.JwtUtil;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.Stalk.project.util.TokenHasher;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Service
 public class AuthService {
 
   private final UserLoginMapper userLoginMapper;
   private final JwtUtil jwtUtil;
-  private final RedisTemplate<String, String> redisTemplate;
-  private final PasswordEncoder passwordEncoder;
+  private final RefreshTokenStore refreshTokenStore;
+  private final LastLoginRecorder lastLoginRecorder;
+  private final PasswordHasher passwordHasher;
+  private final LoginThrottle loginThrottle;
 
   public AuthService(UserLoginMapper userLoginMapper, JwtUtil jwtUtil,
-      RedisTemplate<String, String> redisTemplate,
-      PasswordEncoder passwordEncoder) {
+      RefreshTokenStore refreshTokenStore,
+      LastLoginRecorder lastLoginRecorder,
+      PasswordHasher passwordHasher,
+      LoginThrottle loginThrottle) {
     this.userLoginMapper = userLoginMapper;
     this.jwtUtil = jwtUtil;
-    this.redisTemplate = redisTemplate;
-    this.passwordEncoder = passwordEncoder;
+    this.refreshTokenStore = refreshTokenStore;
+    this.lastLoginRecorder = lastLoginRecorder;
+    this.passwordHasher = passwordHasher;
+    this.loginThrottle = loginThrottle;
   }
 
-  public LoginResponse login(LoginRequest loginRequest) {
+  /**
+   * @param clientIp 시도 제한용 클라이언트 IP
+   */
+  public LoginResponse login(LoginRequest loginRequest, String clientIp) {
+    // IP 별 시도 / (사용자 ID, IP) 별 실패 횟수 제한 (비밀번호 검증 전에 거절)
+    loginThrottle.acquire(loginRequest.getUserId(), clientIp);
+
     User user = userLoginMapper.findByUserId(loginRequest.getUserId());
-    if (user == null || !passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+    if (user == null || !passwordHasher.matches(loginRequest.getPassword(), user.getPassword())) {
+      loginThrottle.recordFailure(loginRequest.getUserId(), clientIp);
       throw new RuntimeException("Invalid user ID or password");
     }
+    loginThrottle.recordSuccess(loginRequest.getUserId(), clientIp);
 
     if (!user.getIsActive()) {
       throw new RuntimeException("Account is not active");
@@ -42,19 +59,15 @@ public class AuthService {
 
     // Access Token 및 Refresh Token 생성
     String accessToken = jwtUtil.createAccessToken(user.getUserId(), user.getRole());
-    String refreshToken = jwtUtil.createRefreshToken(user.getUserId(), user.getRole());
+    String tokenId = UUID.randomUUID().toString();
+    String refreshToken = jwtUtil.createRefreshToken(user.getUserId(), user.getRole(), tokenId);
 
-    // Refresh Token을 Redis에 저장
-    redisTemplate.opsForValue().set(
-        "refresh_token:" + user.getUserId(),
-        refreshToken,
-        jwtUtil.getRefreshTokenValidity(),
-        TimeUnit.MILLISECONDS
-    );
+    // Refresh Token 저장 (세션(jti)별로 저장 → 여러 기기 동시 로그인 허용)
+    refreshTokenStore.save(user.getUserId(), tokenId, TokenHasher.sha256(refreshToken),
+        refreshTokenTtl());
 
-    // 마지막 로그인 시간 업데이트
-    user.setLastLoginAt(LocalDateTime.now());
-    userLoginMapper.update(user);
+    // 마지막 로그인 시간 기록 (DB 반영은 LastLoginRecorder 가 모아서 처리)
+    lastLoginRecorder.record(user.getId(), LocalDateTime.now());
 
     LoginResponse response = new LoginResponse();
     response.setAccessToken(accessToken);
@@ -66,40 +79,75 @@ public class AuthService {
    * 로그아웃: 클라이언트가 보낸 refresh token을 무효화(서버에 저장된 키 삭제)
    */
   public void logout(String refreshToken) {
-    // 1 토큰 유효성 검사
-    if (!jwtUtil.validateToken(refreshToken)) {
+    // 1 토큰 유효성 검사 + userId 추출 (파싱 1회)
+    JwtPrincipal principal = jwtUtil.parseOrNull(refreshToken);
+    if (principal == null) {
       throw new BadCredentialsException("Invalid or expired refresh token");
     }
 
-    // 2 토큰에서 userId 추출
-    String userId = jwtUtil.getUserIdFromToken(refreshToken);
-
-    // 3 Redis에 저장된 키 삭제
-    String key = "refresh_token:" + userId;
-    Boolean deleted = redisTemplate.delete(key);
-    System.out.println(deleted);
+    // 2 해당 세션의 refresh token 만 폐기 (다른 기기 세션은 유지)
+    if (principal.tokenId() == null) {
+      // jti 이전에 발급된 토큰
+      refreshTokenStore.consumeLegacy(principal.userId(), refreshToken);
+      return;
+    }
+    refreshTokenStore.revoke(principal.userId(), principal.tokenId());
   }
 
   /**
-   * 클라이언트가 보낸 refreshToken을 검증하고, Redis에 저장된 토큰과 일치하면 새로운 accessToken을 생성해 반환.
+   * 클라이언트가 보낸 refreshToken을 검증하고, 저장된 토큰과 일치하면 새 accessToken + refreshToken 을 발급.
+   * <p>
+   * 사용한 refreshToken 은 같은 연산 안에서 폐기되므로(회전) 재사용할 수 없다. 유예 시간 없이 한 번만 쓸 수 있으므로
+   * 같은 토큰으로 동시에 들어온 요청은 하나만 성공하고 나머지는 401 을 받는다. 클라이언트는 갱신 요청을 하나로 모으고,
+   * 401 을 받았을 때 저장된 토큰이 보낸 토큰과 다르면 (다른 탭이 이미 회전) 지우지 말고 그 토큰으로 다시 시도해야 한다.
+   * jti 가 없는 (세션별 저장 도입 이전) 토큰은 한 번만 받아 주고 jti 가 있는 새 토큰으로 바꿔 준다.
+   *
+   * @throws ResponseStatusException 401: 유효하지 않은 토큰, 비활성 사용자, 이미 사용·폐기된 토큰
    */
-  public String refreshAccessToken(String refreshToken) {
-    if (!jwtUtil.validateToken(refreshToken)) {
-      throw new BadCredentialsException("Invalid refresh token");
+  public LoginResponse refreshAccessToken(String refreshToken) {
+    JwtPrincipal principal = jwtUtil.parseOrNull(refreshToken);
+    if (principal == null) {
+      throw unauthorized("Invalid refresh token");
     }
 
-    String userId = jwtUtil.getUserIdFromToken(refreshToken);
-    String storedRefreshToken = redisTemplate.opsForValue().get("refresh_token:" + userId);
-
-    if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
-      throw new RuntimeException("Refresh token not found or mismatched");
-    }
-    System.out.println(userId);
+    String userId = principal.userId();
     User user = userLoginMapper.findByUserId(userId);
     if (user == null || !user.getIsActive()) {
-      throw new RuntimeException("User not found or inactive");
+      throw unauthorized("User not found or inactive");
+    }
+
+    String newTokenId = UUID.randomUUID().toString();
+    String newRefreshToken = jwtUtil.createRefreshToken(user.getUserId(), user.getRole(),
+        newTokenId);
+
+    boolean rotated;
+    if (principal.tokenId() == null) {
+      rotated = refreshTokenStore.consumeLegacy(userId, refreshToken);
+      if (rotated) {
+        refreshTokenStore.save(userId, newTokenId, TokenHasher.sha256(newRefreshToken),
+            refreshTokenTtl());
+      }
+    } else {
+      rotated = refreshTokenStore.rotate(userId,
+          principal.tokenId(), TokenHasher.sha256(refreshToken),
+          newTokenId, TokenHasher.sha256(newRefreshToken),
+          refreshTokenTtl());
+    }
+    if (!rotated) {
+      throw unauthorized("Refresh token not found or mismatched");
     }
 
-    return jwtUtil.createAccessToken(user.getUserId(), user.getRole());
+    LoginResponse response = new LoginResponse();
+    response.setAccessToken(jwtUtil.createAccessToken(user.getUserId(), user.getRole()));
+    response.setRefreshToken(newRefreshToken);
+    return response;
+  }
+
+  private static ResponseStatusException unauthorized(String reason) {
+    return new ResponseStatusException(HttpStatus.UNAUTHORIZED, reason);
+  }
+
+  private Duration refreshTokenTtl() {
+    return Duration.ofMillis(jwtUtil.getRefreshTokenValidity());
   }
 }
\ No newline at end of file
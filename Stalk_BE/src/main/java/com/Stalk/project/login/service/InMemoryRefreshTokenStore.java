@@ -0,0 +1,71 @@
+package com.Stalk.project.login.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 기반 {@link RefreshTokenStore} (Redis 없이 실행하는 로컬/테스트 환경용)
+ * <p>
+ * auth.refresh-token-store=memory 일 때 사용된다. 서버 재시작 시 모든 세션이 사라진다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+  // 저장 건수가 이 값을 넘으면 만료된 세션을 정리한다
+  private static final int PURGE_THRESHOLD = 10_000;
+
+  private final Map<Key, Entry> tokens = new ConcurrentHashMap<>();
+
+  @Override
+  public void save(String userId, String tokenId, String tokenHash, Duration ttl) {
+    long now = System.currentTimeMillis();
+    if (tokens.size() >= PURGE_THRESHOLD) {
+      purgeExpired(now);
+    }
+    tokens.put(new Key(userId, tokenId), new Entry(tokenHash, now + ttl.toMillis()));
+  }
+
+  @Override
+  public synchronized boolean rotate(String userId, String oldTokenId, String oldTokenHash,
+      String newTokenId, String newTokenHash, Duration ttl) {
+    long now = System.currentTimeMillis();
+    Key oldKey = new Key(userId, oldTokenId);
+    Entry current = tokens.get(oldKey);
+    if (current == null || current.expiresAt() <= now || !current.tokenHash().equals(oldTokenHash)) {
+      return false;
+    }
+    tokens.remove(oldKey);
+    tokens.put(new Key(userId, newTokenId), new Entry(newTokenHash, now + ttl.toMillis()));
+    return true;
+  }
+
+  @Override
+  public synchronized boolean revoke(String userId, String tokenId) {
+    Entry removed = tokens.remove(new Key(userId, tokenId));
+    return removed != null && removed.expiresAt() > System.currentTimeMillis();
+  }
+
+  /**
+   * 메모리 저장소는 재시작하면 비워지므로 jti 이전 토큰이 남아 있을 수 없다
+   */
+  @Override
+  public boolean consumeLegacy(String userId, String legacyToken) {
+    return false;
+  }
+
+  private void purgeExpired(long now) {
+    tokens.values().removeIf(e -> e.expiresAt() <= now);
+  }
+
+  private record Key(String userId, String tokenId) {
+
+  }
+
+  private record Entry(String tokenHash, long expiresAt) {
+
+  }
+}
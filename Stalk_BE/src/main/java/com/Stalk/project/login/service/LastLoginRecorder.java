@@ -0,0 +1,108 @@
+package com.Stalk.project.login.service;
+
+import com.Stalk.project.login.dao.LastLoginDto;
+import com.Stalk.project.login.dao.UserLoginMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막 로그인 시각 기록 (write-behind)
+ * <p>
+ * 로그인 시에는 사용자별 최신 시각만 메모리에 덮어쓰고, 주기적으로(또는 쌓인 사용자 수가
+ * flush-threshold 를 넘으면 스케줄러 스레드에서 바로) UPDATE ... CASE 한 번으로 묶어 반영한다.
+ * 로그인 요청 스레드에서는 DB 쓰기가 일어나지 않는다.
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder {
+
+  private final UserLoginMapper userLoginMapper;
+  private final TaskScheduler taskScheduler;
+  private final int batchSize;
+  private final int flushThreshold;
+
+  private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+  // 임계치 초과로 예약된 flush 가 아직 실행되지 않았으면 true (중복 예약 방지)
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+  public LastLoginRecorder(UserLoginMapper userLoginMapper, TaskScheduler taskScheduler,
+      @Value("${auth.last-login.batch-size:500}") int batchSize,
+      @Value("${auth.last-login.flush-threshold:1000}") int flushThreshold) {
+    this.userLoginMapper = userLoginMapper;
+    this.taskScheduler = taskScheduler;
+    this.batchSize = batchSize;
+    this.flushThreshold = flushThreshold;
+  }
+
+  /**
+   * 로그인 시각 기록 (메모리), 같은 사용자의 미반영 값은 더 최근 시각으로 합쳐진다
+   */
+  public void record(Long userId, LocalDateTime loginAt) {
+    merge(userId, loginAt);
+
+    if (pending.size() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+      taskScheduler.schedule(() -> {
+        flushRequested.set(false);
+        flush();
+      }, Instant.now());
+    }
+  }
+
+  /**
+   * 모인 로그인 시각을 DB 에 일괄 반영
+   */
+  @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:10000}")
+  public synchronized void flush() {
+    List<LastLoginDto> logins = drain();
+    if (logins.isEmpty()) {
+      return;
+    }
+
+    for (int from = 0; from < logins.size(); from += batchSize) {
+      List<LastLoginDto> batch = logins.subList(from, Math.min(from + batchSize, logins.size()));
+      try {
+        userLoginMapper.updateLastLoginAt(batch);
+      } catch (Exception e) {
+        // 반영 실패분은 다음 주기에 다시 시도
+        log.warn("마지막 로그인 시각 반영 실패, 다음 주기에 재시도: count={}", batch.size(), e);
+        batch.forEach(l -> merge(l.getId(), l.getLastLoginAt()));
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private void merge(Long userId, LocalDateTime loginAt) {
+    pending.merge(userId, loginAt, (a, b) -> a.isAfter(b) ? a : b);
+  }
+
+  /**
+   * 현재까지의 값을 꺼낸다
+   * <p>
+   * 꺼낸 값과 같을 때만 제거하므로, 꺼내는 도중 갱신된 사용자는 남아서 다음 주기에 반영된다.
+   */
+  private List<LastLoginDto> drain() {
+    List<LastLoginDto> logins = new ArrayList<>();
+    pending.forEach((userId, loginAt) -> {
+      if (pending.remove(userId, loginAt)) {
+        logins.add(new LastLoginDto(userId, loginAt));
+      }
+    });
+    return logins;
+  }
+}
@@ -0,0 +1,156 @@
+package com.Stalk.project.login.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * <p>
+ * 클라이언트 IP 버킷은 시도마다, (사용자 ID, IP) 버킷은 로그인 실패 시에만 차감하고,
+ * 어느 한쪽이라도 비어 있으면 429 로 거절한다. 비밀번호 해시 이전에 거절하므로
+ * 크리덴셜 스터핑이 BCrypt CPU 를 소모하지 못한다.
+ * <p>
+ * 실패 버킷을 사용자 ID 만으로 잡으면 남의 ID 로 틀린 비밀번호를 보내는 것만으로 그 사용자를
+ * 잠글 수 있으므로 IP 와 묶는다. 로그인에 성공하면 해당 실패 버킷은 비운다.
+ */
+@Component
+public class LoginThrottle {
+
+  // 키: userId + "|" + clientIp
+  private final Map<String, TokenBucket> failureBuckets = new ConcurrentHashMap<>();
+  private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+  private final int userCapacity;
+  private final double userRefillPerMilli;
+  private final int ipCapacity;
+  private final double ipRefillPerMilli;
+
+  private final Counter userRejected;
+  private final Counter ipRejected;
+
+  public LoginThrottle(MeterRegistry meterRegistry,
+      @Value("${auth.login-throttle.user.capacity:5}") int userCapacity,
+      @Value("${auth.login-throttle.user.refill-per-minute:5}") int userRefillPerMinute,
+      @Value("${auth.login-throttle.ip.capacity:30}") int ipCapacity,
+      @Value("${auth.login-throttle.ip.refill-per-minute:60}") int ipRefillPerMinute) {
+    this.userCapacity = userCapacity;
+    this.userRefillPerMilli = userRefillPerMinute / 60_000.0;
+    this.ipCapacity = ipCapacity;
+    this.ipRefillPerMilli = ipRefillPerMinute / 60_000.0;
+    this.userRejected = Counter.builder("auth.login_throttle.rejected")
+        .tag("key", "user").register(meterRegistry);
+    this.ipRejected = Counter.builder("auth.login_throttle.rejected")
+        .tag("key", "ip").register(meterRegistry);
+  }
+
+  /**
+   * 로그인 시도 1회 (IP 버킷 차감, 실패 버킷은 확인만), 한도를 넘으면 429
+   */
+  public void acquire(String userId, String clientIp) {
+    long now = System.currentTimeMillis();
+
+    if (clientIp != null && !ipBuckets
+        .computeIfAbsent(clientIp, k -> new TokenBucket(ipCapacity, ipRefillPerMilli, now))
+        .tryConsume(now)) {
+      ipRejected.increment();
+      throw tooManyRequests();
+    }
+    if (userId != null) {
+      TokenBucket failures = failureBuckets.get(failureKey(userId, clientIp));
+      if (failures != null && !failures.hasToken(now)) {
+        userRejected.increment();
+        throw tooManyRequests();
+      }
+    }
+  }
+
+  /**
+   * 로그인 실패 1회 차감 (아이디 없음 / 비밀번호 불일치)
+   */
+  public void recordFailure(String userId, String clientIp) {
+    if (userId == null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    failureBuckets
+        .computeIfAbsent(failureKey(userId, clientIp),
+            k -> new TokenBucket(userCapacity, userRefillPerMilli, now))
+        .tryConsume(now);
+  }
+
+  /**
+   * 로그인 성공, 해당 (사용자 ID, IP) 의 실패 기록 초기화
+   */
+  public void recordSuccess(String userId, String clientIp) {
+    if (userId != null) {
+      failureBuckets.remove(failureKey(userId, clientIp));
+    }
+  }
+
+  /**
+   * 가득 찬(= 한동안 시도가 없던) 버킷 정리
+   */
+  @Scheduled(fixedDelayString = "${auth.login-throttle.cleanup-interval-ms:60000}")
+  public void evictIdleBuckets() {
+    long now = System.currentTimeMillis();
+    failureBuckets.values().removeIf(b -> b.isFull(now));
+    ipBuckets.values().removeIf(b -> b.isFull(now));
+  }
+
+  private static String failureKey(String userId, String clientIp) {
+    return userId + "|" + clientIp;
+  }
+
+  private static ResponseStatusException tooManyRequests() {
+    return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+        "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+  }
+
+  private static final class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerMilli;
+    private double tokens;
+    private long refilledAt;
+
+    private TokenBucket(int capacity, double refillPerMilli, long now) {
+      this.capacity = capacity;
+      this.refillPerMilli = refillPerMilli;
+      this.tokens = capacity;
+      this.refilledAt = now;
+    }
+
+    synchronized boolean tryConsume(long now) {
+      refill(now);
+      if (tokens < 1) {
+        return false;
+      }
+      tokens -= 1;
+      return true;
+    }
+
+    synchronized boolean hasToken(long now) {
+      refill(now);
+      return tokens >= 1;
+    }
+
+    synchronized boolean isFull(long now) {
+      refill(now);
+      return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+      if (now > refilledAt) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerMilli);
+        refilledAt = now;
+      }
+    }
+  }
+}
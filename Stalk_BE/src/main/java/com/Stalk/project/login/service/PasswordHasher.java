@@ -0,0 +1,120 @@
+package com.Stalk.project.login.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ * <p>
+ * BCrypt 는 요청당 수십 ms 의 CPU 를 쓰므로, 로그인이 몰리면 Tomcat 워커 전체가 해시 계산에 묶인다.
+ * 해시 작업을 크기가 고정된 스레드 풀 + 제한된 대기열에서만 돌려 동시에 쓰는 CPU 를 제한하고,
+ * 대기열이 가득 차거나 오래 기다리면 즉시 503 으로 거절해 다른 API 는 계속 응답할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+
+  private final Timer queueWaitTimer;
+  private final Timer hashTimer;
+
+  public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+      @Value("${auth.password-hasher.threads:0}") int threads,
+      @Value("${auth.password-hasher.queue-capacity:64}") int queueCapacity,
+      @Value("${auth.password-hasher.timeout-ms:3000}") long timeoutMillis) {
+    this.passwordEncoder = passwordEncoder;
+    this.timeoutMillis = timeoutMillis;
+
+    // 기본값: CPU 코어 수의 절반 (최소 1) → 나머지 코어는 일반 요청 처리에 남겨둔다
+    int poolSize = threads > 0 ? threads
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        r -> {
+          Thread thread = new Thread(r, "password-hasher-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("auth.password_hasher.queue.size", executor, e -> e.getQueue().size())
+        .description("비밀번호 해시 대기 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("auth.password_hasher.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("비밀번호 해시 실행 중인 스레드 수")
+        .register(meterRegistry);
+    this.queueWaitTimer = Timer.builder("auth.password_hasher.queue.wait")
+        .description("비밀번호 해시 대기열 대기 시간")
+        .register(meterRegistry);
+    this.hashTimer = Timer.builder("auth.password_hasher.duration")
+        .description("비밀번호 해시/검증 소요 시간")
+        .register(meterRegistry);
+  }
+
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  private <T> T execute(Callable<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return hashTimer.recordCallable(task);
+      });
+    } catch (RejectedExecutionException e) {
+      log.warn("비밀번호 해시 대기열 포화: queueSize={}", executor.getQueue().size());
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+          "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+          "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,78 @@
+package com.Stalk.project.login.service;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 {@link RefreshTokenStore}
+ * <p>
+ * 키: refresh_token:{userId}:{tokenId} → 토큰 해시 (TTL = refresh token 유효기간).
+ * userId 를 해시 태그로 감싸 같은 사용자의 세션 키가 클러스터에서도 한 슬롯에 모이게 한다.
+ * 회전(rotate)은 Lua 스크립트 한 번으로 처리하므로 Redis 왕복은 요청당 1회다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+  private static final String KEY_PREFIX = "refresh_token:";
+
+  // KEYS[1]=기존 키, KEYS[2]=새 키 / ARGV[1]=기존 해시, ARGV[2]=새 해시, ARGV[3]=TTL(ms)
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+        return 0
+      end
+      redis.call('DEL', KEYS[1])
+      redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+      return 1
+      """, Long.class);
+
+  // KEYS[1]=jti 이전 형식의 키 / ARGV[1]=토큰 원문 (일치할 때만 삭제)
+  private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+        return 0
+      end
+      redis.call('DEL', KEYS[1])
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public RedisRefreshTokenStore(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  public void save(String userId, String tokenId, String tokenHash, Duration ttl) {
+    redisTemplate.opsForValue().set(key(userId, tokenId), tokenHash, ttl);
+  }
+
+  @Override
+  public boolean rotate(String userId, String oldTokenId, String oldTokenHash,
+      String newTokenId, String newTokenHash, Duration ttl) {
+    Long result = redisTemplate.execute(ROTATE_SCRIPT,
+        List.of(key(userId, oldTokenId), key(userId, newTokenId)),
+        oldTokenHash, newTokenHash, String.valueOf(ttl.toMillis()));
+    return result != null && result == 1L;
+  }
+
+  @Override
+  public boolean revoke(String userId, String tokenId) {
+    return Boolean.TRUE.equals(redisTemplate.delete(key(userId, tokenId)));
+  }
+
+  @Override
+  public boolean consumeLegacy(String userId, String legacyToken) {
+    Long result = redisTemplate.execute(CONSUME_LEGACY_SCRIPT,
+        List.of(KEY_PREFIX + userId), legacyToken);
+    return result != null && result == 1L;
+  }
+
+  private static String key(String userId, String tokenId) {
+    return KEY_PREFIX + "{" + userId + "}:" + tokenId;
+  }
+}
@@ -0,0 +1,42 @@
+package com.Stalk.project.login.service;
+
+import java.time.Duration;
+
+/**
+ * Refresh Token 저장소
+ * <p>
+ * 사용자당 여러 세션(기기)을 허용하기 위해 토큰 ID(jti) 단위로 저장하며,
+ * 토큰 원문 대신 SHA-256 해시만 보관한다.
+ * {@link #rotate} 는 "기존 토큰 확인 → 폐기 → 새 토큰 저장" 을 원자적으로 수행한다.
+ */
+public interface RefreshTokenStore {
+
+  /**
+   * 새 세션의 refresh token 저장
+   */
+  void save(String userId, String tokenId, String tokenHash, Duration ttl);
+
+  /**
+   * 저장된 토큰이 oldTokenHash 와 일치할 때만 폐기하고 새 토큰으로 교체
+   *
+   * @return 교체 성공 여부 (이미 사용·폐기·만료된 토큰이면 false)
+   */
+  boolean rotate(String userId, String oldTokenId, String oldTokenHash,
+      String newTokenId, String newTokenHash, Duration ttl);
+
+  /**
+   * 세션 하나의 refresh token 폐기
+   *
+   * @return 폐기된 토큰이 있었는지 여부
+   */
+  boolean revoke(String userId, String tokenId);
+
+  /**
+   * jti 도입 이전에 발급된 refresh token (사용자당 1개, refresh_token:{userId} 에 원문 저장) 을
+   * 저장값과 일치할 때만 폐기한다. 배포 전에 로그인한 세션이 한 번 더 갱신(또는 로그아웃)할 수 있도록
+   * 남겨 둔 경로이며, 기존 키는 refresh token 유효기간이 지나면 자연히 사라진다.
+   *
+   * @return 일치하는 토큰을 폐기했는지 여부 (이미 사용됐거나 없으면 false)
+   */
+  boolean consumeLegacy(String userId, String legacyToken);
+}
@@ -0,0 +1,105 @@
+package com.Stalk.project.login.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 IP 판별
+ * <p>
+ * X-Real-IP 는 접속 주소가 신뢰하는 프록시(nginx)일 때만 사용한다. 백엔드 포트가 호스트에 직접
+ * 공개되어 있으므로, 그 외의 접속이 보낸 헤더는 위조될 수 있어 무시하고 접속 주소를 쓴다.
+ * <p>
+ * auth.trusted-proxies 에는 IP, CIDR, 호스트명(도커 컨테이너명)을 섞어 쓸 수 있다.
+ * 호스트명은 컨테이너 재시작으로 주소가 바뀔 수 있어 주기적으로 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class ClientIpResolver {
+
+  private static final String REAL_IP_HEADER = "X-Real-IP";
+
+  private final List<IpAddressMatcher> addressMatchers = new ArrayList<>();
+  private final List<String> hostNames = new ArrayList<>();
+
+  // 호스트명 항목을 조회한 주소 (refreshHostAddresses 가 교체)
+  private volatile Set<String> hostAddresses = Set.of();
+
+  public ClientIpResolver(
+      @Value("${auth.trusted-proxies:127.0.0.1,::1,nginx-prod,nginx-dev}") String[] trustedProxies) {
+    for (String entry : trustedProxies) {
+      String proxy = entry.trim();
+      if (proxy.isEmpty()) {
+        continue;
+      }
+      if (isAddressLiteral(proxy)) {
+        addressMatchers.add(new IpAddressMatcher(proxy));
+      } else {
+        hostNames.add(proxy);
+      }
+    }
+  }
+
+  /**
+   * 신뢰하는 프록시를 거친 요청이면 X-Real-IP, 아니면 접속 주소
+   */
+  public String resolve(HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    if (isTrustedProxy(remoteAddr)) {
+      String realIp = request.getHeader(REAL_IP_HEADER);
+      if (realIp != null && !realIp.isBlank()) {
+        return realIp.trim();
+      }
+    }
+    return remoteAddr;
+  }
+
+  boolean isTrustedProxy(String remoteAddr) {
+    if (remoteAddr == null) {
+      return false;
+    }
+    if (hostAddresses.contains(remoteAddr)) {
+      return true;
+    }
+    for (IpAddressMatcher matcher : addressMatchers) {
+      if (matcher.matches(remoteAddr)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 호스트명 항목 재조회 (조회 실패한 호스트는 건너뜀)
+   */
+  @Scheduled(fixedDelayString = "${auth.trusted-proxies-refresh-ms:60000}")
+  public void refreshHostAddresses() {
+    if (hostNames.isEmpty()) {
+      return;
+    }
+    Set<String> resolved = new HashSet<>();
+    for (String host : hostNames) {
+      try {
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+          resolved.add(address.getHostAddress());
+        }
+      } catch (UnknownHostException e) {
+        log.debug("신뢰 프록시 호스트 조회 실패: {}", host);
+      }
+    }
+    hostAddresses = Set.copyOf(resolved);
+  }
+
+  private static boolean isAddressLiteral(String proxy) {
+    return proxy.contains(":") || proxy.contains("/") || proxy.matches("[0-9.]+");
+  }
+}
@@ -17,10 +17,10 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerificationCache jwtVerificationCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthenticationFilter(JwtVerificationCache jwtVerificationCache) {
+        this.jwtVerificationCache = jwtVerificationCache;
     }
 
     /**
@@ -42,9 +42,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String userId = jwtUtil.getUserIdFromToken(token);
-                String role   = jwtUtil.getRoleFromToken(token);
+            // 검증 1회 (같은 토큰의 반복 요청은 캐시에서 바로 꺼냄)
+            JwtPrincipal principal = jwtVerificationCache.verify(token);
+            if (principal != null) {
+                String userId = principal.userId();
+                String role   = principal.role();
 
                 // Spring Security context 에 인증 정보 세팅
                 UsernamePasswordAuthenticationToken auth =
@@ -0,0 +1,16 @@
+package com.Stalk.project.login.util;
+
+/**
+ * 검증이 끝난 JWT 에서 꺼낸 인증 정보
+ *
+ * @param userId    토큰 subject (users.user_id)
+ * @param role      role 클레임
+ * @param tokenId   jti 클레임 (refresh token 세션 식별자, access token 은 null)
+ * @param expiresAt 토큰 만료 시각 (epoch millis)
+ */
+public record JwtPrincipal(String userId, String role, String tokenId, long expiresAt) {
+
+  public boolean isExpired(long now) {
+    return expiresAt <= now;
+  }
+}
@@ -1,63 +1,85 @@
 package com.Stalk.project.login.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.util.Date;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS512;
 
-    @Value("${jwt.access-token-validity}")
-    private long accessTokenValidity;
+    // jwt.secret(Base64) 로부터 시작 시 한 번만 만드는 서명 키 / 파서 (둘 다 불변, 스레드 안전)
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    private final long accessTokenValidity;
 
     @Getter
-    @Value("${jwt.refresh-token-validity}")
-    private long refreshTokenValidity;
+    private final long refreshTokenValidity;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+        @Value("${jwt.access-token-validity}") long accessTokenValidity,
+        @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secret), ALGORITHM.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
+    }
 
     public String createAccessToken(String userId, String role) {
-        return createToken(userId, role, accessTokenValidity);
+        return createToken(userId, role, null, accessTokenValidity);
     }
 
-    public String createRefreshToken(String userId, String role) {
-        return createToken(userId, role, refreshTokenValidity);
+    /**
+     * @param tokenId 세션 식별자 (jti), refresh token 저장소의 키로 사용
+     */
+    public String createRefreshToken(String userId, String role, String tokenId) {
+        return createToken(userId, role, tokenId, refreshTokenValidity);
     }
 
-    private String createToken(String userId, String role, long validity) {
-        Claims claims = Jwts.claims().setSubject(userId);
-        claims.put("role", role);
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + validity);
+    private String createToken(String userId, String role, String tokenId, long validity) {
+        long now = System.currentTimeMillis();
 
         return Jwts.builder()
-            .setClaims(claims)
-            .setIssuedAt(now)
-            .setExpiration(expiryDate)
-            .signWith(SignatureAlgorithm.HS512, secret)
+            .setSubject(userId)
+            .claim("role", role)
+            .setId(tokenId)
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + validity))
+            .signWith(signingKey, ALGORITHM)
             .compact();
     }
 
-    public String getUserIdFromToken(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public String getRoleFromToken(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().get("role", String.class);
+    /**
+     * 서명 검증 + 클레임 파싱을 한 번에 수행
+     *
+     * @throws JwtException 서명이 맞지 않거나 만료된 토큰
+     */
+    public JwtPrincipal parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return new JwtPrincipal(claims.getSubject(), claims.get("role", String.class),
+            claims.getId(), claims.getExpiration().getTime());
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * {@link #parse(String)} 와 같으나 유효하지 않은 토큰이면 null 반환
+     */
+    public JwtPrincipal parseOrNull(String token) {
         try {
-            Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return parse(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.Stalk.project.login.util;
+
+import com.Stalk.project.util.TokenHasher;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 Access Token 캐시
+ * <p>
+ * 토큰 원문의 SHA-256 해시를 키로 {@link JwtPrincipal} 을 보관하고, 토큰의 exp 시각까지만 유효하다.
+ * 같은 토큰으로 들어오는 반복 요청은 서명 검증(HS512)과 클레임 파싱을 건너뛴다.
+ */
+@Component
+public class JwtVerificationCache {
+
+  private final Map<String, JwtPrincipal> cache = new ConcurrentHashMap<>();
+
+  private final JwtUtil jwtUtil;
+  private final int maxEntries;
+
+  public JwtVerificationCache(JwtUtil jwtUtil,
+      @Value("${jwt.verification-cache.max-entries:10000}") int maxEntries) {
+    this.jwtUtil = jwtUtil;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * 토큰 검증, 유효하지 않거나 만료되었으면 null
+   */
+  public JwtPrincipal verify(String token) {
+    String key = TokenHasher.sha256(token);
+    long now = System.currentTimeMillis();
+
+    JwtPrincipal cached = cache.get(key);
+    if (cached != null) {
+      if (!cached.isExpired(now)) {
+        return cached;
+      }
+      cache.remove(key, cached);
+      return null;
+    }
+
+    JwtPrincipal principal = jwtUtil.parseOrNull(token);
+    if (principal != null) {
+      put(key, principal, now);
+    }
+    return principal;
+  }
+
+  private void put(String key, JwtPrincipal principal, long now) {
+    if (cache.size() >= maxEntries) {
+      cache.values().removeIf(p -> p.isExpired(now));
+      if (cache.size() >= maxEntries) {
+        cache.clear();
+      }
+    }
+    cache.put(key, principal);
+  }
+}
@@ -37,6 +37,8 @@ public class ConsultationController {
       SessionTokenResponseDto dto = sessionService.createSessionAndGetToken(consultationId);
       log.info("✅ 세션 토큰 생성 성공: {}", dto.getToken());
       return ResponseEntity.status(HttpStatus.CREATED).body(dto);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
       log.error("❌ 세션 토큰 생성 실패: consultationId={}", consultationId, e);
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -52,6 +54,8 @@ public class ConsultationController {
       return ResponseEntity.ok(info);
     } catch (NoSuchElementException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
@@ -71,6 +75,11 @@ public class ConsultationController {
     } catch (ResponseStatusException e) {
       // 404 등 예외 상태 그대로 전달
       return ResponseEntity.status(e.getStatusCode()).build();
+    } catch (NoSuchElementException e) {
+      // 등록되지 않았거나 이미 종료된 상담방
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (OpenViduJavaClientException | OpenViduHttpException e) {
       // OpenVidu 서버 연결 오류
       return ResponseEntity
@@ -0,0 +1,127 @@
+package com.Stalk.project.openvidu.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * consultationId → OpenVidu 세션 등록 정보 (여러 서버 인스턴스가 공유)
+ * <p>
+ * 키: consultation_session:{consultationId} → "{sessionId}|{생성 시각 epoch millis}" (TTL = ttl-hours).
+ * 조회 결과는 짧은 시간(near-cache-ttl-ms) 동안 로컬에 보관해 같은 상담방의 반복 요청이 Redis 를 매번 거치지 않게 한다.
+ * 다른 인스턴스에서 종료된 세션은 near-cache 만료 후 반영되므로, 호출 측은 OpenVidu 404 를 받으면 {@link #evictLocal} 로 지운다.
+ */
+@Component
+public class ConsultationSessionRegistry {
+
+  private static final String KEY_PREFIX = "consultation_session:";
+
+  /**
+   * 등록된 세션 정보
+   */
+  public record SessionEntry(String sessionId, Instant createdAt) {
+
+    String encode() {
+      return sessionId + "|" + createdAt.toEpochMilli();
+    }
+
+    static SessionEntry decode(String value) {
+      int separator = value.lastIndexOf('|');
+      return new SessionEntry(value.substring(0, separator),
+          Instant.ofEpochMilli(Long.parseLong(value.substring(separator + 1))));
+    }
+  }
+
+  private record Cached(SessionEntry entry, long expiresAt) {
+
+  }
+
+  private final Map<String, Cached> nearCache = new ConcurrentHashMap<>();
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration ttl;
+  private final long nearCacheTtlMillis;
+  private final int nearCacheMaxEntries;
+
+  public ConsultationSessionRegistry(RedisTemplate<String, String> redisTemplate,
+      @Value("${openvidu.session-registry.ttl-hours:12}") long ttlHours,
+      @Value("${openvidu.session-registry.near-cache-ttl-ms:2000}") long nearCacheTtlMillis,
+      @Value("${openvidu.session-registry.near-cache-max-entries:1000}") int nearCacheMaxEntries) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofHours(ttlHours);
+    this.nearCacheTtlMillis = nearCacheTtlMillis;
+    this.nearCacheMaxEntries = nearCacheMaxEntries;
+  }
+
+  /**
+   * 등록 정보 조회, 없으면 null
+   */
+  public SessionEntry find(String consultationId) {
+    long now = System.currentTimeMillis();
+    Cached cached = nearCache.get(consultationId);
+    if (cached != null && cached.expiresAt() > now) {
+      return cached.entry();
+    }
+
+    String value = redisTemplate.opsForValue().get(key(consultationId));
+    if (value == null) {
+      nearCache.remove(consultationId);
+      return null;
+    }
+    SessionEntry entry = SessionEntry.decode(value);
+    cache(consultationId, entry, now);
+    return entry;
+  }
+
+  /**
+   * 등록 (이미 다른 인스턴스가 등록했으면 기존 정보를 반환)
+   */
+  public SessionEntry registerIfAbsent(String consultationId, SessionEntry entry) {
+    String key = key(consultationId);
+    SessionEntry registered = entry;
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, entry.encode(), ttl))) {
+      String existing = redisTemplate.opsForValue().get(key);
+      if (existing != null) {
+        registered = SessionEntry.decode(existing);
+      } else {
+        // 그 사이 만료/삭제된 경우
+        redisTemplate.opsForValue().set(key, entry.encode(), ttl);
+      }
+    }
+    cache(consultationId, registered, System.currentTimeMillis());
+    return registered;
+  }
+
+  /**
+   * 등록 해제 (모든 인스턴스에서 다음 조회부터 없음으로 처리)
+   */
+  public void remove(String consultationId) {
+    redisTemplate.delete(key(consultationId));
+    nearCache.remove(consultationId);
+  }
+
+  /**
+   * 이 인스턴스의 near-cache 에서만 제거
+   */
+  public void evictLocal(String consultationId) {
+    nearCache.remove(consultationId);
+  }
+
+  private void cache(String consultationId, SessionEntry entry, long now) {
+    if (nearCache.size() >= nearCacheMaxEntries) {
+      nearCache.values().removeIf(c -> c.expiresAt() <= now);
+      if (nearCache.size() >= nearCacheMaxEntries) {
+        nearCache.clear();
+      }
+    }
+    nearCache.put(consultationId, new Cached(entry, now + nearCacheTtlMillis));
+  }
+
+  private static String key(String consultationId) {
+    return KEY_PREFIX + consultationId;
+  }
+}
@@ -1,31 +1,51 @@
 package com.Stalk.project.openvidu.service;
 
 import com.Stalk.project.openvidu.dto.out.SessionTokenResponseDto;
+import com.Stalk.project.openvidu.service.ConsultationSessionRegistry.SessionEntry;
 import io.openvidu.java.client.*;
 
-import java.net.URI;
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import org.springframework.web.server.ResponseStatusException;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 
+/**
+ * 상담방(OpenVidu 세션) 관리
+ * <p>
+ * consultationId → sessionId 등록 정보는 {@link ConsultationSessionRegistry}(Redis)가 인스턴스 간에 공유하고,
+ * 이 클래스는 OpenVidu {@link Session} 핸들만 로컬에 보관한다. 다른 인스턴스가 만든 세션이면
+ * {@link OpenVidu#fetch()} 로 핸들을 복원한다. 세션 ID 는 consultationId 로 정해지므로(customSessionId)
+ * 두 인스턴스가 동시에 만들어도 OpenVidu 에는 세션이 하나만 생긴다.
+ */
 @Service
 @Slf4j
 public class ConsultationSessionService {
 
+  // OpenVidu customSessionId 허용 문자
+  private static final Pattern CONSULTATION_ID = Pattern.compile("^[A-Za-z0-9_-]{1,64}$");
+  private static final String SESSION_ID_PREFIX = "consultation_";
+
   private final OpenVidu openVidu;
-  // 메모리나 DB에 세션 객체를 캐싱할 수 있습니다.
+  private final ConsultationSessionRegistry sessionRegistry;
+  // 이 인스턴스의 OpenVidu 세션 핸들 (consultationId → Session)
   private final Map<String, Session> sessionMap = new ConcurrentHashMap<>();
-  private final Map<String, Instant> createdAtMap = new ConcurrentHashMap<>();
+  // 진행 중인 세션 생성 작업 (consultationId → 결과), 원격 호출은 맵 밖에서 수행
+  private final Map<String, CompletableFuture<CreatedSession>> pendingCreations = new ConcurrentHashMap<>();
+
+  private record CreatedSession(Session session, SessionEntry entry) {
+
+  }
 
-  public ConsultationSessionService(OpenVidu openVidu) {
+  public ConsultationSessionService(OpenVidu openVidu,
+      ConsultationSessionRegistry sessionRegistry) {
     this.openVidu = openVidu;
+    this.sessionRegistry = sessionRegistry;
   }
 
 
@@ -46,49 +66,128 @@ public class ConsultationSessionService {
    */
   public SessionTokenResponseDto createSessionAndGetToken(String consultationId)
       throws OpenViduJavaClientException, OpenViduHttpException {
-    // 1) 세션 get-or-create
-    Session session = sessionMap.computeIfAbsent(consultationId, id -> {
-      try {
-        Session newSession = openVidu.createSession();
-        createdAtMap.put(id, Instant.now());
-        return newSession;
-      } catch (OpenViduJavaClientException | OpenViduHttpException e) {
-        throw new IllegalStateException("OpenVidu 세션 생성 실패", e);
-      }
-    });
+    validate(consultationId);
+    return createSessionAndGetToken(consultationId, true);
+  }
 
-    // 2) 토큰 발급
-    String token = generateToken(session, consultationId);
+  private SessionTokenResponseDto createSessionAndGetToken(String consultationId, boolean retry)
+      throws OpenViduJavaClientException, OpenViduHttpException {
+    // 1) 등록된 세션이 있으면 핸들 복원 (OpenVidu 에서 이미 종료됐으면 새로 생성)
+    SessionEntry entry = sessionRegistry.find(consultationId);
+    Session session = entry == null ? null : sessionHandle(consultationId, entry);
 
-    // 3) 세션 생성 시각 조회
-    String createdAt = createdAtMap
-        .get(consultationId)
-        .toString();
+    // 2) 없으면 세션 생성 후 등록 (같은 상담방의 동시 요청은 생성 작업 하나를 공유)
+    if (session == null) {
+      CreatedSession created = createSession(consultationId);
+      session = created.session();
+      entry = created.entry();
+    }
+
+    // 3) 토큰 발급 (그 사이 다른 인스턴스에서 종료된 세션이면 한 번 더 시도)
+    String token;
+    try {
+      token = generateToken(session, consultationId);
+    } catch (OpenViduHttpException e) {
+      if (e.getStatus() != 404 || !retry) {
+        throw e;
+      }
+      forget(consultationId);
+      return createSessionAndGetToken(consultationId, false);
+    }
 
     // 4) DTO 반환
     return new SessionTokenResponseDto(
         session.getSessionId(),
         token,
-        createdAt
+        entry.createdAt()
     );
   }
 
+  /**
+   * 세션 생성 + 등록
+   * <p>
+   * 먼저 placeholder 를 putIfAbsent 한 요청만 OpenVidu 를 호출하고, 같은 consultationId 의 나머지 요청은
+   * 그 결과를 기다린다. 원격 호출 중 맵 락을 잡지 않으므로 다른 상담방 요청은 영향을 받지 않는다.
+   */
+  private CreatedSession createSession(String consultationId)
+      throws OpenViduJavaClientException, OpenViduHttpException {
+    CompletableFuture<CreatedSession> placeholder = new CompletableFuture<>();
+    CompletableFuture<CreatedSession> inFlight = pendingCreations.putIfAbsent(consultationId, placeholder);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+
+    try {
+      Session session = openVidu.createSession(new SessionProperties.Builder()
+          .customSessionId(SESSION_ID_PREFIX + consultationId)
+          .build());
+      sessionMap.put(consultationId, session);
+      SessionEntry entry = sessionRegistry.registerIfAbsent(consultationId,
+          new SessionEntry(session.getSessionId(), Instant.now()));
+      CreatedSession created = new CreatedSession(session, entry);
+      placeholder.complete(created);
+      return created;
+    } catch (OpenViduJavaClientException | OpenViduHttpException | RuntimeException e) {
+      placeholder.completeExceptionally(e);
+      throw e;
+    } finally {
+      // 완료된 작업은 바로 제거 (실패했으면 다음 요청이 다시 시도)
+      pendingCreations.remove(consultationId, placeholder);
+    }
+  }
+
+  /**
+   * 다른 요청이 진행 중인 생성 작업의 결과 대기 (실패 시 같은 예외를 던짐)
+   */
+  private static CreatedSession await(CompletableFuture<CreatedSession> inFlight)
+      throws OpenViduJavaClientException, OpenViduHttpException {
+    try {
+      return inFlight.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("OpenVidu 세션 생성 대기 중 인터럽트", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof OpenViduJavaClientException clientException) {
+        throw clientException;
+      }
+      if (cause instanceof OpenViduHttpException httpException) {
+        throw httpException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("OpenVidu 세션 생성 실패", cause);
+    }
+  }
+
   /**
    * 신규 조회 메서드
    */
   public SessionTokenResponseDto getSessionInfo(String consultationId)
       throws OpenViduJavaClientException, OpenViduHttpException {
-    Session session = sessionMap.get(consultationId);
+    validate(consultationId);
+    SessionEntry entry = sessionRegistry.find(consultationId);
+    Session session = entry == null ? null : sessionHandle(consultationId, entry);
     if (session == null) {
+      sessionMap.remove(consultationId);
       throw new NoSuchElementException("Session not found");
     }
 
-    String token = generateToken(session, consultationId);
-    String createdAt = createdAtMap.get(consultationId).toString();
+    String token;
+    try {
+      token = generateToken(session, consultationId);
+    } catch (OpenViduHttpException e) {
+      if (e.getStatus() != 404) {
+        throw e;
+      }
+      forget(consultationId);
+      throw new NoSuchElementException("Session not found");
+    }
     return new SessionTokenResponseDto(
         session.getSessionId(),
         token,
-        createdAt
+        entry.createdAt()
     );
   }
 
@@ -97,8 +196,11 @@ public class ConsultationSessionService {
    */
   public void closeSession(String consultationId)
       throws OpenViduJavaClientException, OpenViduHttpException {
-    Session session = sessionMap.get(consultationId);
+    validate(consultationId);
+    SessionEntry entry = sessionRegistry.find(consultationId);
+    Session session = entry == null ? null : sessionHandle(consultationId, entry);
     if (session == null) {
+      sessionMap.remove(consultationId);
       throw new NoSuchElementException("Session not found");
     }
 
@@ -106,14 +208,54 @@ public class ConsultationSessionService {
       // 1) OpenVidu 세션 종료
       session.close();
 
-      // 2) 메모리에서 세션 정보 제거
-      sessionMap.remove(consultationId);
-      createdAtMap.remove(consultationId);
+      // 2) 등록 정보와 핸들 제거
+      forget(consultationId);
 
       log.info("상담방 종료 완료: {}", consultationId);
-    } catch (OpenViduJavaClientException | OpenViduHttpException e) {
+    } catch (OpenViduHttpException e) {
+      if (e.getStatus() == 404) {
+        // 이미 종료된 세션
+        forget(consultationId);
+        return;
+      }
       log.error("상담방 종료 실패: {}", consultationId, e);
       throw new IllegalStateException("상담방 종료 실패", e);
+    } catch (OpenViduJavaClientException e) {
+      log.error("상담방 종료 실패: {}", consultationId, e);
+      throw new IllegalStateException("상담방 종료 실패", e);
+    }
+  }
+
+  /**
+   * 등록 정보에 맞는 세션 핸들 반환, 로컬에 없으면 OpenVidu 에서 복원
+   *
+   * @return 핸들, OpenVidu 에 세션이 없으면 등록 정보를 지우고 null
+   */
+  private Session sessionHandle(String consultationId, SessionEntry entry)
+      throws OpenViduJavaClientException, OpenViduHttpException {
+    Session session = sessionMap.get(consultationId);
+    if (session != null && session.getSessionId().equals(entry.sessionId())) {
+      return session;
+    }
+
+    openVidu.fetch();
+    session = openVidu.getActiveSession(entry.sessionId());
+    if (session == null) {
+      forget(consultationId);
+      return null;
+    }
+    sessionMap.put(consultationId, session);
+    return session;
+  }
+
+  private void forget(String consultationId) {
+    sessionRegistry.remove(consultationId);
+    sessionMap.remove(consultationId);
+  }
+
+  private static void validate(String consultationId) {
+    if (consultationId == null || !CONSULTATION_ID.matcher(consultationId).matches()) {
+      throw new IllegalArgumentException("유효하지 않은 consultationId: " + consultationId);
     }
   }
 }
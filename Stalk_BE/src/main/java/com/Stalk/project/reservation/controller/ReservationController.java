@@ -3,13 +3,13 @@ package com.Stalk.project.reservation.controller;
 import com.Stalk.project.auth.mock.util.TokenUtils;
 import com.Stalk.project.reservation.dto.in.ConsultationReservationRequestDto;
 import com.Stalk.project.reservation.dto.in.ReservationCancelRequestDto;
+import com.Stalk.project.reservation.dto.in.ReservationListRequestDto;
 import com.Stalk.project.reservation.dto.out.ConsultationReservationResponseDto;
 import com.Stalk.project.reservation.dto.out.ReservationCancelResponseDto;
 import com.Stalk.project.reservation.dto.out.ReservationDetailResponseDto;
 import com.Stalk.project.reservation.service.ReservationService;
 import com.Stalk.project.response.BaseResponse;
 import com.Stalk.project.util.CursorPage;
-import com.Stalk.project.util.PageRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -108,6 +108,7 @@ public class ReservationController {
           ### 📄 페이징
           - CursorPage 형식으로 무한스크롤 지원
           - 최신순 정렬 (created_at DESC)
+          - 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회 (pageNo 무시)
           """,
       parameters = {
           @Parameter(
@@ -125,7 +126,7 @@ public class ReservationController {
   })
   public BaseResponse<CursorPage<ReservationDetailResponseDto>> getReservationList(
       @RequestHeader("Authorization") String authorization,
-      @ModelAttribute PageRequestDto pageRequest) {
+      @ModelAttribute ReservationListRequestDto pageRequest) {
 
     // 토큰에서 사용자 ID 추출
     Long currentUserId = TokenUtils.extractUserId(authorization);
@@ -1,8 +1,8 @@
 package com.Stalk.project.reservation.dao;
 
 import com.Stalk.project.reservation.dto.in.CancelReason;
+import com.Stalk.project.reservation.dto.in.ReservationListRequestDto;
 import com.Stalk.project.reservation.dto.out.ReservationDetailResponseDto;
-import com.Stalk.project.util.PageRequestDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import java.time.LocalDate;
@@ -13,11 +13,6 @@ import java.util.List;
 @Mapper
 public interface ReservationMapper {
 
-  /**
-   * 전문가 존재 및 승인 여부 확인 ReservationService에서 isApprovedAdvisor() 로 호출
-   */
-  Boolean isApprovedAdvisor(@Param("advisorUserId") Long advisorUserId);
-
   /**
    * 전문가 차단 시간 확인 ReservationService에서 isTimeBlocked() 로 호출 (시간 범위 체크)
    */
@@ -53,23 +48,11 @@ public interface ReservationMapper {
   String getUserRole(@Param("userId") Long userId);
 
   /**
-   * 사용자 ID로 advisor_id 조회
-   */
-  Long getAdvisorIdByUserId(@Param("userId") Long userId);
-
-  /**
-   * 전문가의 예약 내역 조회 (전문가용)
-   */
-  List<ReservationDetailResponseDto> findAdvisorReservations(
-      @Param("advisorId") Long advisorId,
-      @Param("pageRequest") PageRequestDto pageRequest);
-
-  /**
-   * 일반 사용자의 예약 내역 조회 (일반 사용자용)
+   * 예약 내역 조회 (전문가: 받은 예약 / 일반 사용자: 신청한 예약, 역할 판별 포함 단일 쿼리)
    */
-  List<ReservationDetailResponseDto> findUserReservations(
+  List<ReservationDetailResponseDto> findReservationsByRole(
       @Param("userId") Long userId,
-      @Param("pageRequest") PageRequestDto pageRequest);
+      @Param("pageRequest") ReservationListRequestDto pageRequest);
 
   /**
    * 예약 상세 조회 (취소 가능 여부 확인용)
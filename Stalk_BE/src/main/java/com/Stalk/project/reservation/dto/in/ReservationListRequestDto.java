@@ -0,0 +1,34 @@
+package com.Stalk.project.reservation.dto.in;
+
+import com.Stalk.project.util.PageRequestDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ReservationListRequestDto extends PageRequestDto {
+
+  @Schema(description = "커서 (이전 응답의 nextCursor 값). 지정하면 pageNo 대신 커서 이후부터 조회")
+  private String cursor;
+
+  // 커서 디코딩 결과 (created_at, id), 서비스에서만 설정
+  @Schema(hidden = true)
+  @Setter(AccessLevel.NONE)
+  private LocalDateTime cursorCreatedAt;
+
+  @Schema(hidden = true)
+  @Setter(AccessLevel.NONE)
+  private Long cursorId;
+
+  public void applyDecodedCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+    this.cursorCreatedAt = cursorCreatedAt;
+    this.cursorId = cursorId;
+  }
+}
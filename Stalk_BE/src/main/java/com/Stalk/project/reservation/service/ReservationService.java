@@ -1,17 +1,20 @@
 package com.Stalk.project.reservation.service;
 
+import com.Stalk.project.advisor.service.AdvisorAvailabilityCache;
+import com.Stalk.project.advisor.service.ApprovedAdvisorRegistry;
 import com.Stalk.project.reservation.dao.ReservationCancelCheckDto;
 import com.Stalk.project.reservation.dao.ReservationMapper;
 import com.Stalk.project.reservation.dto.in.CancelReason;
 import com.Stalk.project.reservation.dto.in.ConsultationReservationRequestDto;
 import com.Stalk.project.reservation.dto.in.ReservationCancelRequestDto;
+import com.Stalk.project.reservation.dto.in.ReservationListRequestDto;
 import com.Stalk.project.reservation.dto.out.ConsultationReservationResponseDto;
 import com.Stalk.project.reservation.dto.out.ReservationCancelResponseDto;
 import com.Stalk.project.reservation.dto.out.ReservationDetailResponseDto;
 import com.Stalk.project.exception.BaseException;
 import com.Stalk.project.response.BaseResponseStatus;
+import com.Stalk.project.util.CursorCodec;
 import com.Stalk.project.util.CursorPage;
-import com.Stalk.project.util.PageRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -34,6 +37,8 @@ import java.util.List;
 public class ReservationService {
 
   private final ReservationMapper reservationMapper;
+  private final AdvisorAvailabilityCache availabilityCache;
+  private final ApprovedAdvisorRegistry approvedAdvisorRegistry;
 
   /**
    * 상담 예약 생성 (토큰 기반 인증 적용), 동시성 이슈 해결
@@ -61,6 +66,7 @@ public class ReservationService {
     // 2. 예약 생성 (DB 제약조건이 동시성 보호)
     Long reservationId = createReservationSafely(currentUserId, requestDto,
         requestDate, requestTime);
+    availabilityCache.evict(requestDto.getAdvisorUserId(), requestDate);
 
     // 3. 응답 생성
     ZonedDateTime scheduledTime = ZonedDateTime.of(requestDate, requestTime,
@@ -106,7 +112,7 @@ public class ReservationService {
     }
 
     // 5. 전문가 존재 및 승인 여부 확인
-    if (!reservationMapper.isApprovedAdvisor(advisorUserId)) {
+    if (!approvedAdvisorRegistry.isApproved(advisorUserId)) {
       throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
     }
 
@@ -170,47 +176,70 @@ public class ReservationService {
    */
   @Transactional(readOnly = true)
   public CursorPage<ReservationDetailResponseDto> getReservationList(Long userId,
-      PageRequestDto pageRequest) {
+      ReservationListRequestDto pageRequest) {
     log.info("예약 내역 조회 시작: userId={}", userId);
 
-    // 1. 사용자 role 조회
-    String userRole = reservationMapper.getUserRole(userId);
-    if (userRole == null) {
-      throw new BaseException(BaseResponseStatus.USER_NOT_FOUND);
-    }
+    // 1. 커서 처리 (created_at|id)
+    decodeReservationCursor(pageRequest);
 
-    List<ReservationDetailResponseDto> reservations;
+    // 2. 역할별 예약 내역 조회 (역할 판별까지 한 번의 쿼리)
+    List<ReservationDetailResponseDto> reservations =
+        reservationMapper.findReservationsByRole(userId, pageRequest);
 
-    // 2. 역할별 예약 내역 조회
-    if ("ADVISOR".equals(userRole)) {
-      // 전문가: advisor_id 조회 후 해당 전문가의 예약 내역
-      Long advisorId = reservationMapper.getAdvisorIdByUserId(userId);
-      if (advisorId == null) {
-        throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
-      }
-      reservations = reservationMapper.findAdvisorReservations(advisorId, pageRequest);
-    } else {
-      // 일반 사용자: user_id로 직접 예약 내역 조회
-      reservations = reservationMapper.findUserReservations(userId, pageRequest);
+    // 3. 첫 페이지가 비어 있을 때만 사용자/전문가 상태 확인 (기존 오류 응답 유지)
+    if (reservations.isEmpty() && pageRequest.getCursorId() == null) {
+      validateReservationListUser(userId);
     }
 
-    // 3. CursorPage 처리
+    // 4. CursorPage 처리
     boolean hasNext = reservations.size() > pageRequest.getPageSize();
+    String nextCursor = null;
     if (hasNext) {
       reservations.remove(reservations.size() - 1);
+      ReservationDetailResponseDto lastReservation = reservations.get(reservations.size() - 1);
+      nextCursor = CursorCodec.encode(CursorCodec.dateTimeValue(lastReservation.getCreatedAt()),
+          lastReservation.getReservationId());
     }
 
     log.info("예약 내역 조회 완료: userId={}, count={}", userId, reservations.size());
 
     return CursorPage.<ReservationDetailResponseDto>builder()
         .content(reservations)
-        .nextCursor(null)
+        .nextCursor(nextCursor)
         .hasNext(hasNext)
         .pageSize(pageRequest.getPageSize())
         .pageNo(pageRequest.getPageNo())
         .build();
   }
 
+  /**
+   * 예약 내역 커서 디코딩
+   */
+  private void decodeReservationCursor(ReservationListRequestDto pageRequest) {
+    String cursor = pageRequest.getCursor();
+    if (cursor == null || cursor.isBlank()) {
+      pageRequest.applyDecodedCursor(null, null);
+      return;
+    }
+
+    String[] parts = CursorCodec.decode(cursor, 2);
+    pageRequest.applyDecodedCursor(CursorCodec.parseDateTime(parts[0]),
+        CursorCodec.parseLong(parts[1]));
+  }
+
+  /**
+   * 예약 내역이 없을 때 존재하지 않는 사용자 / 미승인 전문가 구분
+   */
+  private void validateReservationListUser(Long userId) {
+    String userRole = reservationMapper.getUserRole(userId);
+    if (userRole == null) {
+      throw new BaseException(BaseResponseStatus.USER_NOT_FOUND);
+    }
+    if ("ADVISOR".equals(userRole) && !approvedAdvisorRegistry.isApproved(userId)) {
+      throw new BaseException(BaseResponseStatus.ADVISOR_NOT_FOUND);
+    }
+  }
+
   /**
    * 예약 취소 처리
    */
@@ -255,6 +284,7 @@ public class ReservationService {
     if (updateResult <= 0) {
       throw new BaseException(BaseResponseStatus.CANCEL_REQUEST_FAILED);
     }
+    availabilityCache.evict(reservation.getAdvisorId(), reservation.getDate());
 
     // 6. 상대방 알림 생성
     createCancelNotification(reservation, currentUserId);
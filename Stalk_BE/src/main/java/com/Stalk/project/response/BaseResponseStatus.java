@@ -18,6 +18,7 @@ public enum BaseResponseStatus {
    */
   ILLEGAL_ARGUMENT(HttpStatus.BAD_REQUEST, false, 400, "잘못된 요청입니다."),
   INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, false, 401, "적절하지 않은 요청값입니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, false, 402, "유효하지 않은 커서입니다."),
 
   WRONG_JWT_TOKEN(HttpStatus.UNAUTHORIZED, false, 401, "인증 정보가 유효하지 않습니다. 다시 로그인해주시기 바랍니다."),
   FAILED_TO_LOGIN(HttpStatus.UNAUTHORIZED, false, 401, "아이디 또는 비밀번호가 올바르지 않습니다."),
@@ -102,6 +103,7 @@ public enum BaseResponseStatus {
   INVALID_TIME_SLOT(HttpStatus.BAD_REQUEST, false, 1320, "유효하지 않은 시간대입니다."),
   ADVISOR_ONLY_ACCESS(HttpStatus.FORBIDDEN, false, 1321, "전문가만 접근 가능합니다."),
   INVALID_DATE_FORMAT(HttpStatus.BAD_REQUEST, false, 1322, "날짜 형식이 올바르지 않습니다."),
+  INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, false, 1323, "조회 기간이 올바르지 않습니다. (최대 42일)"),
 
   // ===== 인증 관련 에러 코드 (2000번대) =====
 
@@ -155,6 +157,14 @@ public enum BaseResponseStatus {
   USER_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, false, 1504, "사용자 정보 수정에 실패했습니다."),
   INVALID_PHONE_FORMAT(HttpStatus.BAD_REQUEST, false, 1505, "전화번호는 010으로 시작하는 11자리 숫자여야 합니다."),
 
+  /**
+   * 1600: 파일 업로드 관련 에러
+   */
+  PRESIGNED_UPLOAD_NOT_SUPPORTED(HttpStatus.NOT_IMPLEMENTED, false, 1601, "현재 저장소에서는 직접 업로드를 지원하지 않습니다."),
+  UNSUPPORTED_FILE_TYPE(HttpStatus.BAD_REQUEST, false, 1602, "업로드할 수 없는 파일 형식입니다."),
+  FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, false, 1603, "파일 크기가 허용 범위를 넘었습니다."),
+  PRESIGN_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, false, 1604, "업로드 URL 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
 
   // 로그아웃
   LOGOUT_SUCCESS(HttpStatus.OK, true, 200, "로그아웃이 완료되었습니다.");
@@ -2,8 +2,11 @@ package com.Stalk.project.signup.dao;
 
 import com.Stalk.project.signup.entity.Advisor;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface AdvisorSignupMapper {
     void insertAdvisor(Advisor advisor);
+
+    void insertAdvisorDetailInfo(@Param("advisorId") Long advisorId);
 }
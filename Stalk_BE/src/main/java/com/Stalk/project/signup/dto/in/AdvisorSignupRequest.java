@@ -1,7 +1,6 @@
 package com.Stalk.project.signup.dto.in;
 
 import jakarta.validation.constraints.AssertTrue;
-import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -57,13 +56,20 @@ public class AdvisorSignupRequest {
     @Size(min = 6, max = 6, message = "발급번호는 정확히 6자리여야 합니다.")
     private String certificateFileNumber;
 
-    // 프로필 이미지를 필수로 받을 경우
-    @NotNull(message = "프로필 이미지를 업로드해야 합니다.")
+    // 프로필 이미지: 파일을 함께 보내거나, 서명 URL 로 먼저 올리고 받은 fileUrl 을 보낸다 (둘 중 하나 필수)
     private MultipartFile profileImage;
 
+    private String profileImageUrl;
+
     @AssertTrue(message = "약관에 동의해야 합니다.")
     private Boolean agreedTerms;
 
     @AssertTrue(message = "개인정보 수집에 동의해야 합니다.")
     private Boolean agreedPrivacy;
+
+    @AssertTrue(message = "프로필 이미지를 업로드해야 합니다.")
+    public boolean isProfileImageProvided() {
+        return (profileImage != null && !profileImage.isEmpty())
+            || (profileImageUrl != null && !profileImageUrl.isBlank());
+    }
 }
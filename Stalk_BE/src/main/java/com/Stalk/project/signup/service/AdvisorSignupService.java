@@ -1,17 +1,20 @@
 package com.Stalk.project.signup.service;
 
-import com.Stalk.project.auth.email.dao.EmailVerificationMapper;
-import com.Stalk.project.auth.email.entity.EmailVerification;
+import com.Stalk.project.auth.email.service.EmailVerificationStore;
 import com.Stalk.project.signup.dao.UserMapper;
+import com.Stalk.project.auth.duplicatecheck.service.DuplicateCheckService;
+import com.Stalk.project.auth.duplicatecheck.service.TakenIdentifierFilter;
 import com.Stalk.project.signup.dao.AdvisorSignupMapper;
 import com.Stalk.project.signup.dto.in.AdvisorSignupRequest;
 import com.Stalk.project.signup.dto.out.AdvisorSignupResponse;
 import com.Stalk.project.signup.dto.out.SignupResponse;
 import com.Stalk.project.signup.entity.User;
+import com.Stalk.project.login.service.PasswordHasher;
 import com.Stalk.project.signup.entity.Advisor;
+import com.Stalk.project.upload.service.PresignedUploadService;
 import com.Stalk.project.util.FileStorageService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,18 +23,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdvisorSignupService {
 
   private final UserMapper userMapper;
+  private final DuplicateCheckService duplicateCheckService;
+  private final TakenIdentifierFilter takenIdentifierFilter;
   private final AdvisorSignupMapper advisorSignupMapper;
-  private final EmailVerificationMapper emailVerificationMapper;
-  private final PasswordEncoder passwordEncoder;
+  private final EmailVerificationStore emailVerificationStore;
+  private final PasswordHasher passwordHasher;
   private final FileStorageService fileStorageService;
+  // 오브젝트 스토리지(file.storage.type=s3)에서만 있음
+  private final ObjectProvider<PresignedUploadService> presignedUploadService;
 
   @Transactional
   public AdvisorSignupResponse signup(AdvisorSignupRequest req) {
     // 1 아이디·닉네임 중복 검사
-    if (userMapper.findByUserId(req.getUserId()) != null) {
+    if (duplicateCheckService.existsUserId(req.getUserId())) {
       throw new IllegalArgumentException("이미 존재하는 사용자 ID입니다.");
     }
-    if (userMapper.findByNickname(req.getNickname()) != null) {
+    if (duplicateCheckService.existsNickname(req.getNickname())) {
       throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
     }
     // 2 비밀번호 일치 확인
@@ -39,8 +46,7 @@ public class AdvisorSignupService {
       throw new IllegalArgumentException("비밀번호와 확인이 일치하지 않습니다.");
     }
     // 3 이메일 인증 확인
-    EmailVerification ev = emailVerificationMapper.findByEmail(req.getEmail());
-    if (ev == null || !Boolean.TRUE.equals(ev.getVerified())) {
+    if (!emailVerificationStore.isVerified(req.getEmail())) {
       throw new IllegalArgumentException("이메일 인증이 완료되지 않았습니다.");
     }
     // 약관 동의
@@ -48,15 +54,15 @@ public class AdvisorSignupService {
       throw new IllegalArgumentException("약관 및 개인정보 수집에 동의해야 합니다.");
     }
 
-    // 4 프로필 이미지 저장
-    String imageUrl = fileStorageService.store(req.getProfileImage());
+    // 4 프로필 이미지 저장 (또는 직접 업로드한 파일 확인)
+    String imageUrl = profileImageUrl(req);
 
     // 5 users 테이블에 회원 정보 삽입
     User user = User.builder()
         .userId(req.getUserId())
         .name(req.getName())
         .nickname(req.getNickname())
-        .password(passwordEncoder.encode(req.getPassword()))
+        .password(passwordHasher.encode(req.getPassword()))
         .contact(req.getContact())
         .email(req.getEmail())
         .loginType("LOCAL")
@@ -67,6 +73,7 @@ public class AdvisorSignupService {
         .isActive(true)
         .build();
     userMapper.insertUser(user);
+    takenIdentifierFilter.add(user.getUserId(), user.getNickname());
 
     // 6) advisor 테이블에 전문가 정보 삽입
     Advisor advisor = Advisor.builder()
@@ -83,6 +90,8 @@ public class AdvisorSignupService {
         .isProfileCompleted(false)
         .build();
     advisorSignupMapper.insertAdvisor(advisor);
+    // 상세 정보 행이 없으면 승인 후에도 어드바이저 목록에 나오지 않는다
+    advisorSignupMapper.insertAdvisorDetailInfo(advisor.getAdvisorId());
 
     // 7) 응답 반환
     return AdvisorSignupResponse.builder()
@@ -100,4 +109,23 @@ public class AdvisorSignupService {
         .certificateFileNumber(advisor.getCertificateFileNumber())
         .build();
   }
+
+  /**
+   * 함께 보낸 파일이 있으면 저장, 없으면 서명 URL 로 올린 파일이 이 이메일로 발급받아 실제로 올라왔는지 확인
+   */
+  private String profileImageUrl(AdvisorSignupRequest req) {
+    if (req.getProfileImage() != null && !req.getProfileImage().isEmpty()) {
+      return fileStorageService.store(req.getProfileImage());
+    }
+    PresignedUploadService presigned = presignedUploadService.getIfAvailable();
+    if (presigned == null) {
+      throw new IllegalArgumentException("프로필 이미지를 업로드해야 합니다.");
+    }
+    String imageUrl = presigned.verifyUploadedFile(req.getProfileImageUrl(),
+        PresignedUploadService.signupOwner(req.getEmail()));
+    if (imageUrl == null) {
+      throw new IllegalArgumentException("업로드된 프로필 이미지를 찾을 수 없습니다.");
+    }
+    return imageUrl;
+  }
 }
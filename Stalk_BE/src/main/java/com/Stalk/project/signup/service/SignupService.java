@@ -1,14 +1,15 @@
 package com.Stalk.project.signup.service;
 
 import com.Stalk.project.signup.dao.UserMapper;
+import com.Stalk.project.auth.duplicatecheck.service.DuplicateCheckService;
+import com.Stalk.project.auth.duplicatecheck.service.TakenIdentifierFilter;
 import com.Stalk.project.signup.dto.in.SignupRequest;
 import com.Stalk.project.signup.dto.out.SignupResponse;
 import com.Stalk.project.signup.entity.User;
-import com.Stalk.project.auth.email.dao.EmailVerificationMapper;
-import com.Stalk.project.auth.email.entity.EmailVerification;
+import com.Stalk.project.login.service.PasswordHasher;
+import com.Stalk.project.auth.email.service.EmailVerificationStore;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,16 +17,18 @@ import org.springframework.stereotype.Service;
 public class SignupService {
 
     private final UserMapper userMapper;
-    private final EmailVerificationMapper emailVerificationMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final DuplicateCheckService duplicateCheckService;
+    private final TakenIdentifierFilter takenIdentifierFilter;
+    private final EmailVerificationStore emailVerificationStore;
+    private final PasswordHasher passwordHasher;
 
     public SignupResponse register(SignupRequest req) {
         // 중복 검사
-        if (userMapper.findByUserId(req.getUserId()) != null) {
+        if (duplicateCheckService.existsUserId(req.getUserId())) {
             return new SignupResponse(false, null, "이미 사용 중인 userId입니다.");
         }
 
-        if (userMapper.findByNickname(req.getNickname()) != null) {
+        if (duplicateCheckService.existsNickname(req.getNickname())) {
             return new SignupResponse(false, null, "이미 사용 중인 닉네임입니다.");
         }
 
@@ -34,8 +37,7 @@ public class SignupService {
             return new SignupResponse(false, null, "비밀번호가 일치하지 않습니다.");
         }
         // 이메일 인증 확인
-        EmailVerification ev = emailVerificationMapper.findByEmail(req.getEmail());
-        if (ev == null || !Boolean.TRUE.equals(ev.getVerified())) {
+        if (!emailVerificationStore.isVerified(req.getEmail())) {
             return new SignupResponse(false, null, "이메일 인증이 완료되지 않았습니다.");
         }
 
@@ -49,7 +51,7 @@ public class SignupService {
         user.setName(req.getName());
         user.setUserId(req.getUserId());
         user.setEmail(req.getEmail());
-        user.setPassword(passwordEncoder.encode(req.getPassword()));
+        user.setPassword(passwordHasher.encode(req.getPassword()));
         user.setContact(req.getContact());
         user.setNickname(req.getNickname());
         user.setLoginType("LOCAL");
@@ -60,6 +62,7 @@ public class SignupService {
         user.setIsActive(true);
 
         userMapper.insertUser(user);
+        takenIdentifierFilter.add(user.getUserId(), user.getNickname());
 
         return new SignupResponse(true, user.getId(), null);
     }
@@ -0,0 +1,71 @@
+package com.Stalk.project.upload.controller;
+
+import com.Stalk.project.auth.email.service.EmailVerificationStore;
+import com.Stalk.project.exception.BaseException;
+import com.Stalk.project.response.BaseResponse;
+import com.Stalk.project.response.BaseResponseStatus;
+import com.Stalk.project.upload.dto.in.PresignedUploadRequestDto;
+import com.Stalk.project.upload.dto.out.PresignedUploadResponseDto;
+import com.Stalk.project.upload.service.PresignRateLimiter;
+import com.Stalk.project.upload.service.PresignedUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class PresignedUploadController {
+
+  // 로컬 저장소(file.storage.type=local)에서는 구현체가 없음
+  private final ObjectProvider<PresignedUploadService> presignedUploadService;
+  private final EmailVerificationStore emailVerificationStore;
+  private final PresignRateLimiter presignRateLimiter;
+
+  @PostMapping("/presign")
+  @Operation(summary = "직접 업로드용 서명 URL 발급",
+      description = "오브젝트 스토리지(file.storage.type=s3)에서만 지원. 파일 본문은 서버를 거치지 않고 uploadUrl 로 바로 전송한다. "
+          + "로그인 사용자, 또는 회원가입 중 이메일 인증을 마친 사용자(signupEmail)만 요청할 수 있다.")
+  public BaseResponse<PresignedUploadResponseDto> presign(
+      @Valid @RequestBody PresignedUploadRequestDto requestDto, Principal principal) {
+    PresignedUploadService service = presignedUploadService.getIfAvailable();
+    if (service == null) {
+      return new BaseResponse<>(BaseResponseStatus.PRESIGNED_UPLOAD_NOT_SUPPORTED);
+    }
+
+    String owner = owner(requestDto, principal);
+    if (owner == null) {
+      return new BaseResponse<>(BaseResponseStatus.NO_SIGN_IN);
+    }
+    if (!presignRateLimiter.tryAcquire(owner)) {
+      return new BaseResponse<>(BaseResponseStatus.PRESIGN_RATE_LIMITED);
+    }
+
+    try {
+      return new BaseResponse<>(service.presignUpload(requestDto, owner));
+    } catch (BaseException exception) {
+      return new BaseResponse<>(exception.getStatus());
+    }
+  }
+
+  /**
+   * 요청자: 로그인 사용자 ID, 없으면 인증을 마친 회원가입 이메일, 둘 다 아니면 null
+   */
+  private String owner(PresignedUploadRequestDto requestDto, Principal principal) {
+    if (principal != null) {
+      return PresignedUploadService.userOwner(principal.getName());
+    }
+    String signupEmail = requestDto.getSignupEmail();
+    if (StringUtils.hasText(signupEmail) && emailVerificationStore.isVerified(signupEmail)) {
+      return PresignedUploadService.signupOwner(signupEmail);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,295 @@
+package com.Stalk.project.upload.controller;
+
+import com.Stalk.project.upload.service.UploadResource;
+import com.Stalk.project.upload.service.UploadResourceResolver;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 업로드 파일 서빙 (/uploads/**)
+ * <p>
+ * 메타데이터는 {@link UploadResourceResolver} 캐시에서 꺼내고, 본문은 Tomcat sendfile 또는
+ * {@link FileChannel#transferTo} 로 힙 버퍼 없이 보낸다. If-None-Match(304), 단일 Range(206),
+ * 미리 압축된 .br/.gz 변형을 지원한다.
+ */
+@Slf4j
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class UploadController {
+
+  private static final String PREFIX = "/uploads/";
+
+  // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+  private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  // 작은 파일은 sendfile 준비 비용이 더 커서 직접 전송 (Tomcat 기본 sendfileSize 와 동일)
+  private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+  // content-addressed 파일명은 내용이 바뀌지 않으므로 1년 immutable, 그 외는 1시간 후 ETag 로 재검증
+  private static final String IMMUTABLE_CACHE =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+  private static final String REVALIDATE_CACHE =
+      CacheControl.maxAge(Duration.ofHours(1)).cachePublic().getHeaderValue();
+
+  private static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+  private final UploadResourceResolver uploadResourceResolver;
+
+  @GetMapping("/uploads/**")
+  public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    String relativePath = relativePath(request);
+    UploadResource resource = relativePath == null ? null : uploadResourceResolver.resolve(relativePath);
+    if (resource == null) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    // 1) 표현(원본 / .br / .gz) 선택
+    UploadResource.Encoded encoded = selectEncoding(resource, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    String etag = encoded == null
+        ? resource.etag()
+        : resource.etag().substring(0, resource.etag().length() - 1) + "-" + encoded.encoding() + "\"";
+    long size = encoded == null ? resource.size() : encoded.size();
+
+    // 2) 공통 헤더 (304 에도 포함)
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, resource.immutable() ? IMMUTABLE_CACHE : REVALIDATE_CACHE);
+    response.setDateHeader(HttpHeaders.LAST_MODIFIED, resource.lastModified());
+    if (resource.brotli() != null || resource.gzip() != null) {
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // 3) 조건부 요청
+    if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    response.setContentType(resource.contentType());
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (encoded != null) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, encoded.encoding());
+    }
+
+    // 4) Range (단일 구간만 지원, 여러 구간이나 형식 오류면 전체 응답)
+    long start = 0;
+    long length = size;
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    if (rangeHeader != null && ifRangeMatches(request, etag, resource.lastModified())) {
+      ByteRange range = parseRange(rangeHeader, size);
+      if (range == UNSATISFIABLE) {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        return;
+      }
+      if (range != null) {
+        start = range.start();
+        length = range.end() - range.start() + 1;
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE,
+            "bytes " + range.start() + "-" + range.end() + "/" + size);
+      }
+    }
+    response.setContentLengthLong(length);
+
+    if ("HEAD".equals(request.getMethod()) || length == 0) {
+      return;
+    }
+
+    // 5) 본문 전송
+    Path file = encoded == null ? resource.file() : encoded.file();
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED)) && length >= SENDFILE_MIN_SIZE) {
+      request.setAttribute(SENDFILE_FILENAME, file.toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, start + length);
+      return;
+    }
+    try {
+      transfer(file, start, length, response);
+    } catch (NoSuchFileException e) {
+      // 캐시된 뒤 파일이 지워진 경우
+      uploadResourceResolver.evict(relativePath);
+      if (!response.isCommitted()) {
+        response.reset();
+        response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      }
+    }
+  }
+
+  private static void transfer(Path file, long start, long length,
+      HttpServletResponse response) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      long remaining = length;
+      while (remaining > 0) {
+        long sent = channel.transferTo(position, remaining, out);
+        if (sent <= 0) {
+          // 메타데이터보다 파일이 짧아진 경우
+          throw new EOFException("파일 크기 불일치: " + file);
+        }
+        position += sent;
+        remaining -= sent;
+      }
+    }
+  }
+
+  /**
+   * 요청 URI 에서 /uploads/ 이후 경로 추출 (디코딩)
+   */
+  private static String relativePath(HttpServletRequest request) {
+    String uri = request.getRequestURI().substring(request.getContextPath().length());
+    if (!uri.startsWith(PREFIX)) {
+      return null;
+    }
+    try {
+      return UriUtils.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Accept-Encoding 에 따라 미리 압축된 변형 선택 (br 우선), q=0 은 거부로 처리
+   */
+  private static UploadResource.Encoded selectEncoding(UploadResource resource, String acceptEncoding) {
+    if (acceptEncoding == null || (resource.brotli() == null && resource.gzip() == null)) {
+      return null;
+    }
+    if (resource.brotli() != null && accepts(acceptEncoding, "br")) {
+      return resource.brotli();
+    }
+    if (resource.gzip() != null && accepts(acceptEncoding, "gzip")) {
+      return resource.gzip();
+    }
+    return null;
+  }
+
+  private static boolean accepts(String acceptEncoding, String encoding) {
+    for (String token : acceptEncoding.split(",")) {
+      String[] parts = token.trim().split(";");
+      if (!parts[0].trim().equalsIgnoreCase(encoding)) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String param = parts[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            return Double.parseDouble(param.substring(2)) > 0;
+          } catch (NumberFormatException e) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * If-None-Match 비교 (약한 비교, * 는 항상 일치)
+   */
+  private static boolean matchesAny(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String value = candidate.trim();
+      if (value.equals("*")) {
+        return true;
+      }
+      if (value.startsWith("W/")) {
+        value = value.substring(2);
+      }
+      if (value.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * If-Range 가 없거나 현재 표현과 같으면 true (ETag 는 강한 비교, 날짜는 초 단위 비교)
+   */
+  private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return ifRange.equals(etag);
+    }
+    try {
+      return lastModified / 1000 <= request.getDateHeader(HttpHeaders.IF_RANGE) / 1000;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * bytes=a-b / bytes=a- / bytes=-n 파싱
+   *
+   * @return 구간, 범위를 벗어나면 {@link #UNSATISFIABLE}, 지원하지 않는 형식이면 null
+   */
+  private static ByteRange parseRange(String header, long size) {
+    if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+      return null;
+    }
+    String spec = header.substring("bytes=".length()).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0) {
+      return null;
+    }
+    try {
+      String first = spec.substring(0, dash).trim();
+      String last = spec.substring(dash + 1).trim();
+      if (first.isEmpty()) {
+        // 마지막 n 바이트
+        long suffix = Long.parseLong(last);
+        if (suffix <= 0 || size == 0) {
+          return UNSATISFIABLE;
+        }
+        return new ByteRange(Math.max(0, size - suffix), size - 1);
+      }
+      long start = Long.parseLong(first);
+      long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+      if (start < 0 || end < start) {
+        return null;
+      }
+      if (start >= size) {
+        return UNSATISFIABLE;
+      }
+      return new ByteRange(start, Math.min(end, size - 1));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private record ByteRange(long start, long end) {
+
+  }
+}
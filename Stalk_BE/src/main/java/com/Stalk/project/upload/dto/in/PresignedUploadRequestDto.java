@@ -0,0 +1,29 @@
+package com.Stalk.project.upload.dto.in;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PresignedUploadRequestDto {
+
+  @NotBlank(message = "파일명은 필수 입력 값입니다.")
+  @Schema(description = "원본 파일명 (확장자 추출용)", example = "profile.png")
+  private String fileName;
+
+  @NotBlank(message = "Content-Type 은 필수 입력 값입니다.")
+  @Schema(description = "파일 Content-Type", example = "image/png")
+  private String contentType;
+
+  @NotNull(message = "파일 크기는 필수 입력 값입니다.")
+  @Positive(message = "파일 크기는 0보다 커야 합니다.")
+  @Schema(description = "파일 크기 (바이트), 서명에 포함되어 다른 크기로는 업로드할 수 없음", example = "204800")
+  private Long contentLength;
+
+  @Schema(description = "로그인 전(회원가입 중)에만 사용: 인증을 마친 이메일", example = "advisor@example.com")
+  private String signupEmail;
+}
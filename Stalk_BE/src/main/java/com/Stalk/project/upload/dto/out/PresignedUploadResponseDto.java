@@ -0,0 +1,31 @@
+package com.Stalk.project.upload.dto.out;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+
+  @Schema(description = "업로드 URL (이 URL 로 파일 본문을 그대로 전송)")
+  private String uploadUrl;
+
+  @Schema(description = "HTTP 메서드", example = "PUT")
+  private String method;
+
+  @Schema(description = "업로드 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)")
+  private Map<String, String> headers;
+
+  @Schema(description = "업로드 완료 후 파일 접근 URL (회원가입 등에 이 값을 전달)")
+  private String fileUrl;
+
+  @Schema(description = "업로드 URL 만료 시각")
+  private Instant expiresAt;
+}
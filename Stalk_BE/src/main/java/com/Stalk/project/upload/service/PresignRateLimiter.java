@@ -0,0 +1,52 @@
+package com.Stalk.project.upload.service;
+
+import com.Stalk.project.util.TokenHasher;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 URL 발급 횟수 제한 (요청자별 고정 창, 모든 인스턴스가 Redis 카운터 공유)
+ * <p>
+ * 키: presign_quota:{요청자 해시} → 창 안의 발급 횟수 (TTL = window-seconds, 첫 발급 시점부터)
+ */
+@Component
+public class PresignRateLimiter {
+
+  private static final String KEY_PREFIX = "presign_quota:";
+
+  // KEYS[1]=카운터 키 / ARGV[1]=창 길이(ms), 반환: 증가 후 횟수
+  private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+      local count = redis.call('INCR', KEYS[1])
+      if count == 1 then
+        redis.call('PEXPIRE', KEYS[1], ARGV[1])
+      end
+      return count
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final int maxPerWindow;
+  private final long windowMillis;
+
+  public PresignRateLimiter(RedisTemplate<String, String> redisTemplate,
+      @Value("${file.presign.rate-limit.max-requests:20}") int maxPerWindow,
+      @Value("${file.presign.rate-limit.window-seconds:600}") long windowSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.maxPerWindow = maxPerWindow;
+    this.windowMillis = windowSeconds * 1000;
+  }
+
+  /**
+   * 발급 1회 차감
+   *
+   * @return 한도 안이면 true
+   */
+  public boolean tryAcquire(String owner) {
+    Long count = redisTemplate.execute(ACQUIRE_SCRIPT,
+        List.of(KEY_PREFIX + TokenHasher.sha256(owner)), String.valueOf(windowMillis));
+    return count != null && count <= maxPerWindow;
+  }
+}
@@ -0,0 +1,46 @@
+package com.Stalk.project.upload.service;
+
+import com.Stalk.project.upload.dto.in.PresignedUploadRequestDto;
+import com.Stalk.project.upload.dto.out.PresignedUploadResponseDto;
+import java.util.Locale;
+
+/**
+ * 클라이언트가 저장소에 직접 업로드할 수 있는 서명 URL 발급 (오브젝트 스토리지 백엔드만 지원)
+ * <p>
+ * 발급한 키에는 요청자(owner)가 들어가므로, 업로드 결과 URL 은 같은 요청자의 흐름에서만
+ * {@link #verifyUploadedFile} 를 통과한다.
+ */
+public interface PresignedUploadService {
+
+  /**
+   * 로그인 사용자의 업로드 요청자 식별값
+   */
+  static String userOwner(String userId) {
+    return "user:" + userId;
+  }
+
+  /**
+   * 회원가입 진행 중(이메일 인증 완료) 사용자의 업로드 요청자 식별값
+   */
+  static String signupOwner(String email) {
+    return "signup:" + email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 업로드용 서명 URL 발급
+   *
+   * @param request 파일명, Content-Type, 크기
+   * @param owner   요청자 ({@link #userOwner} / {@link #signupOwner})
+   * @return 업로드 URL 과 함께 보내야 할 헤더, 업로드 후 접근 URL
+   */
+  PresignedUploadResponseDto presignUpload(PresignedUploadRequestDto request, String owner);
+
+  /**
+   * 서명 URL 로 업로드한 파일 확인 (owner 에게 발급한 키인지, 실제로 올라왔는지)
+   *
+   * @param fileUrl 발급 시 받은 fileUrl
+   * @param owner   발급 때와 같은 요청자
+   * @return 저장할 파일 URL, 해당 요청자의 업로드가 아니거나 파일이 없으면 null
+   */
+  String verifyUploadedFile(String fileUrl, String owner);
+}
@@ -0,0 +1,27 @@
+package com.Stalk.project.upload.service;
+
+import java.nio.file.Path;
+
+/**
+ * 업로드 파일 메타데이터 (요청마다 stat 하지 않도록 캐시에 보관)
+ *
+ * @param file         파일 경로
+ * @param size         바이트 크기
+ * @param lastModified 수정 시각 (epoch millis)
+ * @param etag         따옴표를 포함한 ETag (content-addressed 는 내용 해시, 그 외는 크기-수정시각)
+ * @param contentType  MIME 타입
+ * @param immutable    파일명이 내용 해시라 같은 URL 의 내용이 바뀌지 않는지 여부
+ * @param brotli       미리 압축된 .br 파일 (없으면 null)
+ * @param gzip         미리 압축된 .gz 파일 (없으면 null)
+ */
+public record UploadResource(Path file, long size, long lastModified, String etag,
+                             String contentType, boolean immutable,
+                             Encoded brotli, Encoded gzip) {
+
+  /**
+   * 미리 압축된 변형
+   */
+  public record Encoded(Path file, long size, String encoding) {
+
+  }
+}
@@ -0,0 +1,202 @@
+package com.Stalk.project.upload.service;
+
+import com.Stalk.project.util.ImageDerivativeService;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 경로 → {@link UploadResource} 변환
+ * <p>
+ * 한 번 찾은 파일의 크기/수정시각/ETag/압축 변형은 메모리에 보관하고, 이후 요청은 파일시스템을 다시 stat 하지 않는다.
+ * 업로드 파일은 content-addressed 라 같은 경로의 내용이 바뀌지 않으므로 캐시를 무효화할 필요가 없고,
+ * 파일이 지워진 경우에만 {@link #evict(String)} 로 제거한다. 없는 파일은 캐시하지 않는다 (썸네일이 나중에 생길 수 있음).
+ * <p>
+ * 아직 없는 썸네일은 요청 스레드에서 만들지 않는다. 생성을 예약하고 그동안은 원본 이미지로 응답한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+public class UploadResourceResolver {
+
+  // {sha256}.ext / {sha256}_thumb.jpg
+  private static final Pattern CONTENT_HASH_NAME =
+      Pattern.compile("^([0-9a-f]{64}(?:_thumb)?)\\.[a-z0-9]+$");
+
+  private final Map<String, UploadResource> cache = new ConcurrentHashMap<>();
+
+  private final ImageDerivativeService imageDerivativeService;
+  private final Path uploadPath;
+  private final int maxEntries;
+
+  public UploadResourceResolver(ImageDerivativeService imageDerivativeService,
+      @Value("${file.upload-dir:uploads}") String uploadDir,
+      @Value("${file.serve.metadata-cache.max-entries:10000}") int maxEntries) {
+    this.imageDerivativeService = imageDerivativeService;
+    this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * 업로드 디렉터리 기준 상대 경로로 파일 조회, 없거나 허용되지 않는 경로면 null
+   */
+  public UploadResource resolve(String relativePath) {
+    UploadResource cached = cache.get(relativePath);
+    if (cached != null) {
+      return cached;
+    }
+
+    Path file = toFile(relativePath);
+    if (file == null) {
+      return null;
+    }
+    UploadResource resource = load(file);
+    if (resource == null && file.getFileName().toString().endsWith(ImageDerivativeService.THUMBNAIL_SUFFIX)) {
+      // 썸네일이 아직 없으면 (비동기 생성 전, 대기열 포화, 기존 업로드) 생성 예약 후 원본으로 응답 (캐시하지 않음)
+      return thumbnailFallback(file);
+    }
+    if (resource != null) {
+      put(relativePath, resource);
+    }
+    return resource;
+  }
+
+  /**
+   * 캐시된 파일이 사라진 경우 제거
+   */
+  public void evict(String relativePath) {
+    cache.remove(relativePath);
+  }
+
+  /**
+   * 상대 경로 검증: 빈 세그먼트, '.' 으로 시작하는 세그먼트(.., .tmp 등), 역슬래시는 거부
+   */
+  private Path toFile(String relativePath) {
+    if (relativePath.isEmpty() || relativePath.indexOf('\\') >= 0 || relativePath.indexOf('\0') >= 0) {
+      return null;
+    }
+    for (String segment : relativePath.split("/", -1)) {
+      if (segment.isEmpty() || segment.charAt(0) == '.') {
+        return null;
+      }
+    }
+    Path file = uploadPath.resolve(relativePath).normalize();
+    return file.startsWith(uploadPath) ? file : null;
+  }
+
+  private UploadResource load(Path file) {
+    BasicFileAttributes attributes = attributes(file);
+    if (attributes == null || !attributes.isRegularFile()) {
+      return null;
+    }
+
+    String name = file.getFileName().toString();
+    Matcher matcher = CONTENT_HASH_NAME.matcher(name);
+    boolean immutable = matcher.matches();
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    String etag = immutable
+        ? "\"" + matcher.group(1) + "\""
+        : "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified) + "\"";
+    String contentType = MediaTypeFactory.getMediaType(name)
+        .orElse(MediaType.APPLICATION_OCTET_STREAM)
+        .toString();
+
+    return new UploadResource(file, attributes.size(), lastModified, etag, contentType, immutable,
+        encoded(file, ".br", "br"), encoded(file, ".gz", "gzip"));
+  }
+
+  /**
+   * 썸네일 생성을 예약하고 (대기열이 가득 차면 예약도 생략) 원본 이미지를 반환, 원본이 없으면 null
+   * <p>
+   * 원본은 이 URL 의 최종 내용이 아니므로 immutable 이 아닌 것으로 내려 보내,
+   * 썸네일이 생긴 뒤 재검증 시 썸네일을 받게 한다.
+   */
+  private UploadResource thumbnailFallback(Path thumbnail) {
+    Path original = findOriginal(thumbnail);
+    if (original == null) {
+      return null;
+    }
+    CompletableFuture<Path> pending = imageDerivativeService.requestThumbnail(original);
+    if (pending != null && pending.isDone() && !pending.isCompletedExceptionally()
+        && pending.join() != null) {
+      // 그 사이 다른 요청이 만들어 둔 경우
+      UploadResource ready = load(thumbnail);
+      if (ready != null) {
+        return ready;
+      }
+    }
+
+    UploadResource source = load(original);
+    if (source == null) {
+      return null;
+    }
+    return new UploadResource(source.file(), source.size(), source.lastModified(), source.etag(),
+        source.contentType(), false, null, null);
+  }
+
+  /**
+   * {해시}_thumb.jpg 와 같은 디렉터리의 원본 이미지 {해시}.ext 탐색
+   */
+  private static Path findOriginal(Path thumbnail) {
+    Path directory = thumbnail.getParent();
+    String name = thumbnail.getFileName().toString();
+    String base = name.substring(0, name.length() - ImageDerivativeService.THUMBNAIL_SUFFIX.length());
+    if (base.isEmpty() || !Files.isDirectory(directory)) {
+      return null;
+    }
+    try (DirectoryStream<Path> candidates = Files.newDirectoryStream(directory, base + ".*")) {
+      for (Path candidate : candidates) {
+        if (ImageDerivativeService.isImage(candidate)) {
+          return candidate;
+        }
+      }
+    } catch (IOException e) {
+      log.warn("원본 이미지 탐색 실패: {}", directory, e);
+    }
+    return null;
+  }
+
+  private static UploadResource.Encoded encoded(Path file, String suffix, String encoding) {
+    Path variant = file.resolveSibling(file.getFileName() + suffix);
+    BasicFileAttributes attributes = attributes(variant);
+    if (attributes == null || !attributes.isRegularFile()) {
+      return null;
+    }
+    return new UploadResource.Encoded(variant, attributes.size(), encoding);
+  }
+
+  private static BasicFileAttributes attributes(Path file) {
+    try {
+      // 업로드 디렉터리 밖을 가리키는 심볼릭 링크는 따라가지 않음
+      return Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      log.warn("파일 정보 조회 실패: {}", file, e);
+      return null;
+    }
+  }
+
+  private void put(String relativePath, UploadResource resource) {
+    if (cache.size() >= maxEntries) {
+      cache.clear();
+    }
+    cache.put(relativePath, resource);
+  }
+}
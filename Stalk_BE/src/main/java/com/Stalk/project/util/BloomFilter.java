@@ -0,0 +1,86 @@
+package com.Stalk.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter (스레드 안전)
+ * <p>
+ * {@link #mightContain(String)} 이 false 면 확실히 없는 값이고, true 면 "있을 수도 있는" 값이다.
+ * 오탐률은 생성 시 지정한 예상 건수 / 목표 오탐률로 정해지며, 미탐(false negative)은 없다.
+ */
+public final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 저장 건수
+   * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    m = Math.max(64, m);
+    this.bits = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (m + 63) >>> 6));
+    this.bitSize = (long) bits.length() << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+  }
+
+  public void put(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      setBit(index(h1 + i * h2));
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = index(h1 + i * h2);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long index(int combined) {
+    // 음수 조합값은 비트 반전으로 양수화 (Guava BloomFilter 와 같은 방식)
+    return (combined < 0 ? ~combined : combined) % bitSize;
+  }
+
+  private void setBit(long index) {
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!bits.compareAndSet(word, current, current | mask));
+  }
+
+  /**
+   * UTF-8 바이트에 대한 64비트 FNV-1a 해시 + murmur3 fmix64 마무리
+   */
+  private static long hash(String value) {
+    long h = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      h ^= b;
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb93fe53ec5c9L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,76 @@
+package com.Stalk.project.util;
+
+import com.Stalk.project.exception.BaseException;
+import com.Stalk.project.response.BaseResponseStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 키셋 페이지네이션 커서 인코딩/디코딩
+ * <p>
+ * 정렬 키 값들을 '|' 로 이어 붙인 뒤 URL-safe Base64 로 인코딩한 불투명 토큰을 사용한다.
+ * 클라이언트는 받은 nextCursor 를 그대로 다음 요청의 cursor 로 넘기기만 하면 된다.
+ */
+public final class CursorCodec {
+
+  private static final String DELIMITER = "|";
+
+  // "yyyy-MM-ddTHH:mm:ss" 길이 (DATE_FORMAT 으로 만든 createdAt 문자열의 앞부분)
+  private static final int DATE_TIME_LENGTH = 19;
+
+  private CursorCodec() {
+  }
+
+  public static String encode(Object... values) {
+    StringJoiner joiner = new StringJoiner(DELIMITER);
+    for (Object value : values) {
+      joiner.add(String.valueOf(value));
+    }
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param expectedParts 커서를 구성하는 값의 개수 (다르면 INVALID_CURSOR)
+   */
+  public static String[] decode(String cursor, int expectedParts) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + DELIMITER, -1);
+      if (parts.length != expectedParts) {
+        throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+      }
+      return parts;
+    } catch (IllegalArgumentException e) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+    }
+  }
+
+  /**
+   * "2025-07-24T12:00:00+09:00" 형식의 조회 결과 시각에서 커서용 값("2025-07-24T12:00:00") 추출
+   */
+  public static String dateTimeValue(String formattedDateTime) {
+    return formattedDateTime.length() > DATE_TIME_LENGTH
+        ? formattedDateTime.substring(0, DATE_TIME_LENGTH)
+        : formattedDateTime;
+  }
+
+  public static LocalDateTime parseDateTime(String value) {
+    try {
+      return LocalDateTime.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+    }
+  }
+
+  public static Long parseLong(String value) {
+    try {
+      return Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+    }
+  }
+}
@@ -8,7 +8,7 @@ import lombok.Getter;
 public class CursorPage<T> {
 
     private List<T> content;
-    private Long nextCursor;
+    private String nextCursor;
     private Boolean hasNext;
     private Integer pageSize;
     private Integer pageNo;
@@ -25,7 +25,7 @@ public class CursorPage<T> {
     }
 
     @Builder
-    public CursorPage(List<T> content, Long nextCursor, Boolean hasNext, Integer pageSize,
+    public CursorPage(List<T> content, String nextCursor, Boolean hasNext, Integer pageSize,
                     Integer pageNo) {
         this.content = content;
         this.nextCursor = nextCursor;
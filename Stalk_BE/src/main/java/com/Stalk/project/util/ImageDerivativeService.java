@@ -0,0 +1,259 @@
+package com.Stalk.project.util;
+
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 이미지 파생본(썸네일) 생성
+ * <p>
+ * 원본 저장 후 {@link #generateThumbnailAsync(Path)} 로 작업을 넘기면, 크기가 제한된 워커 풀에서
+ * 긴 변 기준 thumbnail-size px 의 JPEG 를 원본 옆에 {해시}_thumb.jpg 로 만든다 (순수 JDK ImageIO).
+ * <p>
+ * 디코딩은 항상 이 워커 풀에서만 한다. 같은 원본에 대한 요청은 진행 중인 작업 하나를 공유하고
+ * ({@link #requestThumbnail(Path)}), 대기열이 가득 차면 작업을 받지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageDerivativeService {
+
+  public static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+
+  private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+  // /uploads/ab/cd/{sha256}.ext (LocalFileStorageService 가 저장한 content-addressed 경로)
+  private static final Pattern CONTENT_ADDRESSED_URL =
+      Pattern.compile("^(/uploads/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64})\\.([a-z0-9]+)$");
+
+  // 해제 시 메모리가 과도한 이미지(압축 폭탄 등)는 처리하지 않음
+  private static final long MAX_PIXELS = 50_000_000L;
+
+  private final int thumbnailSize;
+  private final ThreadPoolExecutor executor;
+  // 원본 경로 → 생성 중인 썸네일 (완료되면 제거)
+  private final Map<Path, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+  public ImageDerivativeService(
+      @Value("${file.thumbnail.size:200}") int thumbnailSize,
+      @Value("${file.thumbnail.threads:1}") int threads,
+      @Value("${file.thumbnail.queue-capacity:100}") int queueCapacity) {
+    this.thumbnailSize = thumbnailSize;
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        r -> {
+          Thread thread = new Thread(r, "image-derivative-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * 목록 DTO 용 썸네일 URL, content-addressed 이미지가 아니면 원본 URL 그대로 반환
+   */
+  public static String thumbnailUrl(String url) {
+    if (url == null) {
+      return null;
+    }
+    Matcher matcher = CONTENT_ADDRESSED_URL.matcher(url);
+    if (!matcher.matches() || !IMAGE_EXTENSIONS.contains(matcher.group(2))) {
+      return url;
+    }
+    return matcher.group(1) + THUMBNAIL_SUFFIX;
+  }
+
+  public static boolean isImage(Path file) {
+    String name = file.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    return dot >= 0 && IMAGE_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * 원본 옆의 썸네일 경로 ({해시}.ext → {해시}_thumb.jpg)
+   */
+  public static Path thumbnailPath(Path original) {
+    String name = original.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    return original.resolveSibling((dot >= 0 ? name.substring(0, dot) : name) + THUMBNAIL_SUFFIX);
+  }
+
+  /**
+   * 썸네일 생성 예약 (이미지가 아니거나 이미 있으면 무시)
+   */
+  public void generateThumbnailAsync(Path original) {
+    if (requestThumbnail(original) == null) {
+      log.warn("썸네일 생성 대기열 포화, 첫 요청 시 다시 예약: {}", original);
+    }
+  }
+
+  /**
+   * 썸네일 생성 요청, 같은 원본을 이미 만드는 중이면 그 작업을 그대로 반환
+   *
+   * @return 썸네일 경로로 완료되는 future (이미지가 아니거나 만들 수 없으면 null 로 완료),
+   *     대기열이 가득 차 받지 못하면 null
+   */
+  public CompletableFuture<Path> requestThumbnail(Path original) {
+    if (!isImage(original)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Path thumbnail = thumbnailPath(original);
+    if (Files.exists(thumbnail)) {
+      return CompletableFuture.completedFuture(thumbnail);
+    }
+
+    CompletableFuture<Path> future = new CompletableFuture<>();
+    CompletableFuture<Path> running = inFlight.putIfAbsent(original, future);
+    if (running != null) {
+      return running;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          future.complete(ensureThumbnail(original));
+        } catch (Exception e) {
+          log.warn("썸네일 생성 실패: {}", original, e);
+          future.completeExceptionally(e);
+        } finally {
+          inFlight.remove(original, future);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(original, future);
+      // 그 사이 같은 future 를 받아 간 요청도 기다리지 않도록 실패로 완료
+      future.completeExceptionally(e);
+      return null;
+    }
+    return future;
+  }
+
+  /**
+   * 썸네일이 없으면 지금 생성하고 경로 반환, 생성할 수 없는 파일이면 null (워커 스레드에서만 호출)
+   */
+  private Path ensureThumbnail(Path original) throws IOException {
+    Path thumbnail = thumbnailPath(original);
+    if (Files.exists(thumbnail)) {
+      return thumbnail;
+    }
+
+    BufferedImage source = read(original);
+    if (source == null) {
+      return null;
+    }
+    BufferedImage scaled = scale(source);
+
+    Path temp = thumbnail.resolveSibling(thumbnail.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    try {
+      writeJpeg(scaled, temp);
+      Files.move(temp, thumbnail, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return thumbnail;
+  }
+
+  /**
+   * 크기를 먼저 확인하고, 큰 이미지는 서브샘플링해서 읽어 힙 사용량을 줄인다
+   */
+  private BufferedImage read(Path original) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+      if (in == null) {
+        return null;
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+      if (!readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > MAX_PIXELS) {
+          log.warn("이미지가 너무 커서 썸네일을 만들지 않음: {} ({}x{})", original, width, height);
+          return null;
+        }
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, Math.min(width, height) / (thumbnailSize * 2));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private BufferedImage scale(BufferedImage source) {
+    double ratio = Math.min(1.0,
+        (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+    int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = target.createGraphics();
+    try {
+      // JPEG 는 투명도가 없으므로 흰 배경 위에 그린다
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return target;
+  }
+
+  private void writeJpeg(BufferedImage image, Path target) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+      writer.setOutput(out);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(0.85f);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
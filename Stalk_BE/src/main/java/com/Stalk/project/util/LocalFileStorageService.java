@@ -1,54 +1,202 @@
 package com.Stalk.project.util;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.*;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 로컬 디스크 파일 저장소
+ * <p>
+ * 업로드 스트림을 direct buffer 로 읽어 FileChannel 로 바로 쓰면서 SHA-256 을 함께 계산하고,
+ * 내용 해시를 파일명으로 하는 content-addressed 경로(uploads/ab/cd/{hash}.ext)에 저장한다.
+ * 같은 내용의 파일은 한 번만 저장되며, 디렉터리는 해시 앞 4자리로 나눠 한 디렉터리의 파일 수를 제한한다.
+ * 이미지는 저장 후 {@link ImageDerivativeService} 가 같은 위치에 썸네일을 만든다.
+ * 기본 저장소이며, file.storage.type=s3 이면 {@link S3FileStorageService} 가 대신 사용된다.
+ */
 @Service
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
 public class LocalFileStorageService implements FileStorageService {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 업로드 스레드별 direct buffer 재사용 (요청마다 off-heap 메모리를 새로 할당하지 않음)
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
     // application.properties에 정의된 업로드 기본 경로
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    // 업로드 파일 최대 크기 (기본 10MB)
+    @Value("${file.max-size-bytes:10485760}")
+    private long maxSizeBytes;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    private Path uploadPath;
+    private Path tempPath;
+
+    // 이미 만들어 둔 샤드 디렉터리 (업로드마다 createDirectories 를 호출하지 않기 위함)
+    private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+
+    public LocalFileStorageService(ImageDerivativeService imageDerivativeService) {
+        this.imageDerivativeService = imageDerivativeService;
+    }
+
+    @PostConstruct
+    void init() {
+        uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        tempPath = uploadPath.resolve(".tmp");
+        try {
+            Files.createDirectories(tempPath);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 디렉터리 생성 실패: " + uploadPath, e);
+        }
+    }
+
     @Override
     public String store(MultipartFile file) {
-        // 1) 원본 파일명 정리
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-        // 2) 확장자 분리
-        String ext = "";
-        int dotIdx = originalFilename.lastIndexOf('.');
-        if (dotIdx >= 0) {
-            ext = originalFilename.substring(dotIdx);
+        // 1) 크기 제한 (내용을 읽기 전에 확인)
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드된 파일이 없습니다.");
         }
-        // 3) 저장할 파일명 생성 (UUID + 타임스탬프)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String filename = UUID.randomUUID() + "_" + timestamp + ext;
+        if (file.getSize() > maxSizeBytes) {
+            throw new IllegalArgumentException("파일 크기는 " + maxSizeBytes + " 바이트를 넘을 수 없습니다.");
+        }
+
+        // 2) 확장자 분리
+        String ext = extension(file.getOriginalFilename());
 
-        // 4) 디렉터리 생성 (없으면)
-        Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // 3) 임시 파일로 스트리밍 저장 + 해시 계산
+        Path temp = tempPath.resolve(UUID.randomUUID() + ".part");
+        String hash;
         try {
-            Files.createDirectories(uploadPath);
-        } catch (IOException e) {
-            throw new RuntimeException("업로드 디렉터리 생성 실패: " + uploadPath, e);
+            hash = writeAndHash(file, temp);
+        } catch (IOException ex) {
+            deleteQuietly(temp);
+            throw new RuntimeException("파일 저장 실패: " + file.getOriginalFilename(), ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(temp);
+            throw ex;
         }
 
-        // 5) 실제 파일 저장
+        // 4) content-addressed 경로로 이동 (이미 같은 내용이 있으면 임시 파일만 삭제)
+        String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ext;
+        Path target = uploadPath.resolve(relative);
         try {
-            Path targetLocation = uploadPath.resolve(filename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-            // 반환값은 클라이언트가 접근 가능한 URL 혹은 저장된 상대 경로
-            return "/uploads/" + filename;
+            if (Files.exists(target)) {
+                deleteQuietly(temp);
+            } else {
+                ensureDirectory(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 업로드된 경우
+            deleteQuietly(temp);
         } catch (IOException ex) {
-            throw new RuntimeException("파일 저장 실패: " + originalFilename, ex);
+            deleteQuietly(temp);
+            throw new RuntimeException("파일 저장 실패: " + file.getOriginalFilename(), ex);
+        }
+
+        // 5) 이미지면 썸네일 생성 예약 (비동기)
+        imageDerivativeService.generateThumbnailAsync(target);
+
+        // 반환값은 클라이언트가 접근 가능한 URL
+        return "/uploads/" + relative;
+    }
+
+    /**
+     * 업로드 스트림 → direct buffer → FileChannel, 쓰는 동안 SHA-256 계산
+     */
+    private String writeAndHash(MultipartFile file, Path temp) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = BUFFERS.get();
+        long written = 0;
+
+        try (InputStream in = file.getInputStream();
+            ReadableByteChannel source = Channels.newChannel(in);
+            FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+
+            buffer.clear();
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > maxSizeBytes) {
+                    // 선언된 크기와 실제 내용이 다른 경우
+                    throw new IllegalArgumentException("파일 크기는 " + maxSizeBytes + " 바이트를 넘을 수 없습니다.");
+                }
+
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            buffer.clear();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void ensureDirectory(Path directory) throws IOException {
+        if (createdDirectories.contains(directory)) {
+            return;
+        }
+        Files.createDirectories(directory);
+        createdDirectories.add(directory);
+    }
+
+    /**
+     * 원본 파일명에서 확장자 추출 (영문/숫자만 허용, 소문자)
+     */
+    static String extension(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        String cleaned = StringUtils.cleanPath(originalFilename);
+        int dotIdx = cleaned.lastIndexOf('.');
+        if (dotIdx < 0 || dotIdx == cleaned.length() - 1) {
+            return "";
+        }
+        String ext = cleaned.substring(dotIdx + 1).toLowerCase(Locale.ROOT);
+        if (ext.length() > 10 || !ext.chars().allMatch(Character::isLetterOrDigit)) {
+            return "";
+        }
+        return "." + ext;
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
         }
     }
 }
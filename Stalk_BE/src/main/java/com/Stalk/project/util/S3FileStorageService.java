@@ -0,0 +1,323 @@
+package com.Stalk.project.util;
+
+import com.Stalk.project.exception.BaseException;
+import com.Stalk.project.response.BaseResponseStatus;
+import com.Stalk.project.upload.dto.in.PresignedUploadRequestDto;
+import com.Stalk.project.upload.dto.out.PresignedUploadResponseDto;
+import com.Stalk.project.upload.service.PresignedUploadService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+/**
+ * S3 호환 오브젝트 스토리지 파일 저장소 (file.storage.type=s3)
+ * <p>
+ * 서버 경유 업로드는 로컬 저장소와 같은 content-addressed 키({prefix}ab/cd/{hash}.ext)에 저장해 중복 업로드를 건너뛰고,
+ * part-size 를 넘는 파일은 멀티파트로 나눠 올린다. 각 파트 본문은 요청 시점에 업로드 임시 파일에서 다시 열어 스트리밍하므로
+ * 파트 크기만큼 힙에 버퍼링하지 않고 SDK 재시도도 가능하다.
+ * {@link #presignUpload} 로 발급한 URL 을 쓰면 파일 본문이 서버를 거치지 않는다. 이 경우 키는
+ * {prefix}direct/{요청자 해시}/{uuid}.ext 이며, {@link #verifyUploadedFile} 로 요청자와 업로드 여부를 확인한 뒤 저장한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3FileStorageService implements FileStorageService, PresignedUploadService {
+
+  // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+  private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+  // 내용 해시 키는 같은 키의 내용이 바뀌지 않으므로 장기 캐시
+  private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  private static final Set<String> PRESIGN_CONTENT_TYPES = Set.of(
+      "image/jpeg", "image/png", "image/gif", "image/webp", "application/pdf");
+
+  // 직접 업로드 키의 파일명 부분 ({uuid}.ext)
+  private static final Pattern DIRECT_UPLOAD_NAME =
+      Pattern.compile("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\.[a-z0-9]{1,10})?$");
+
+  private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+  private final String bucket;
+  private final String keyPrefix;
+  private final String publicUrl;
+  private final long partSize;
+  private final long maxSizeBytes;
+  private final Duration presignTtl;
+
+  public S3FileStorageService(S3Client s3Client, S3Presigner s3Presigner,
+      @Value("${file.s3.bucket}") String bucket,
+      @Value("${file.s3.key-prefix:uploads/}") String keyPrefix,
+      @Value("${file.s3.public-url:}") String publicUrl,
+      @Value("${file.s3.part-size-bytes:8388608}") long partSize,
+      @Value("${file.max-size-bytes:10485760}") long maxSizeBytes,
+      @Value("${file.s3.presign-ttl-seconds:600}") long presignTtlSeconds) {
+    this.s3Client = s3Client;
+    this.s3Presigner = s3Presigner;
+    this.bucket = bucket;
+    this.keyPrefix = keyPrefix;
+    this.publicUrl = StringUtils.trimTrailingCharacter(publicUrl, '/');
+    this.partSize = Math.max(MIN_PART_SIZE, partSize);
+    this.maxSizeBytes = maxSizeBytes;
+    this.presignTtl = Duration.ofSeconds(presignTtlSeconds);
+  }
+
+  @Override
+  public String store(MultipartFile file) {
+    if (file == null || file.isEmpty()) {
+      throw new IllegalArgumentException("업로드된 파일이 없습니다.");
+    }
+    long size = file.getSize();
+    if (size > maxSizeBytes) {
+      throw new IllegalArgumentException("파일 크기는 " + maxSizeBytes + " 바이트를 넘을 수 없습니다.");
+    }
+
+    // 1) 내용 해시로 키 결정 (업로드 임시 파일을 한 번 읽음)
+    String hash;
+    try {
+      hash = hash(file);
+    } catch (IOException ex) {
+      throw new RuntimeException("파일 읽기 실패: " + file.getOriginalFilename(), ex);
+    }
+    String key = keyPrefix + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash
+        + LocalFileStorageService.extension(file.getOriginalFilename());
+
+    // 2) 같은 내용이 이미 있으면 업로드 생략
+    if (exists(key)) {
+      return url(key);
+    }
+
+    // 3) 업로드 (part-size 이하는 단일 PUT, 초과는 멀티파트)
+    String contentType = StringUtils.hasText(file.getContentType())
+        ? file.getContentType() : "application/octet-stream";
+    try {
+      if (size <= partSize) {
+        s3Client.putObject(r -> r.bucket(bucket).key(key)
+                .contentType(contentType).contentLength(size).cacheControl(IMMUTABLE_CACHE_CONTROL),
+            RequestBody.fromContentProvider(partStream(file, 0, size), size, contentType));
+      } else {
+        multipartUpload(file, key, contentType, size);
+      }
+    } catch (SdkException | UncheckedIOException ex) {
+      throw new RuntimeException("파일 저장 실패: " + file.getOriginalFilename(), ex);
+    }
+    return url(key);
+  }
+
+  private void multipartUpload(MultipartFile file, String key, String contentType, long size) {
+    String uploadId = s3Client.createMultipartUpload(r -> r.bucket(bucket).key(key)
+        .contentType(contentType).cacheControl(IMMUTABLE_CACHE_CONTROL)).uploadId();
+    try {
+      List<CompletedPart> parts = new ArrayList<>();
+      int partNumber = 1;
+      for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+        long length = Math.min(partSize, size - offset);
+        int number = partNumber;
+        String etag = s3Client.uploadPart(r -> r.bucket(bucket).key(key)
+                .uploadId(uploadId).partNumber(number).contentLength(length),
+            RequestBody.fromContentProvider(partStream(file, offset, length), length, contentType)).eTag();
+        parts.add(CompletedPart.builder().partNumber(number).eTag(etag).build());
+      }
+      s3Client.completeMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId)
+          .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()));
+    } catch (RuntimeException ex) {
+      // 미완료 멀티파트는 저장 비용이 계속 발생하므로 중단
+      try {
+        s3Client.abortMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId));
+      } catch (SdkException abortEx) {
+        log.warn("멀티파트 업로드 중단 실패: key={}, uploadId={}", key, uploadId, abortEx);
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * 업로드 임시 파일의 [offset, offset+length) 구간 스트림 (SDK 가 재시도할 때마다 새로 연다)
+   */
+  private static ContentStreamProvider partStream(MultipartFile file, long offset, long length) {
+    return () -> {
+      try {
+        InputStream in = file.getInputStream();
+        in.skipNBytes(offset);
+        return new BoundedInputStream(in, length);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  @Override
+  public PresignedUploadResponseDto presignUpload(PresignedUploadRequestDto request, String owner) {
+    String contentType = request.getContentType().toLowerCase(Locale.ROOT);
+    if (!PRESIGN_CONTENT_TYPES.contains(contentType)) {
+      throw new BaseException(BaseResponseStatus.UNSUPPORTED_FILE_TYPE);
+    }
+    if (request.getContentLength() > maxSizeBytes) {
+      throw new BaseException(BaseResponseStatus.FILE_TOO_LARGE);
+    }
+
+    // 클라이언트가 내용 해시를 보내지 않으므로 임의 키 사용 (크기와 Content-Type 은 서명에 포함)
+    String key = directPrefix(owner) + UUID.randomUUID()
+        + LocalFileStorageService.extension(request.getFileName());
+    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .contentType(contentType)
+        .contentLength(request.getContentLength())
+        .build();
+    PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(r -> r
+        .signatureDuration(presignTtl)
+        .putObjectRequest(putObjectRequest));
+
+    Map<String, String> headers = new LinkedHashMap<>();
+    presigned.signedHeaders().forEach((name, values) -> {
+      // Host 는 클라이언트가 URL 에서 자동으로 설정
+      if (!"host".equalsIgnoreCase(name)) {
+        headers.put(name, String.join(",", values));
+      }
+    });
+
+    return PresignedUploadResponseDto.builder()
+        .uploadUrl(presigned.url().toString())
+        .method("PUT")
+        .headers(headers)
+        .fileUrl(url(key))
+        .expiresAt(presigned.expiration())
+        .build();
+  }
+
+  @Override
+  public String verifyUploadedFile(String fileUrl, String owner) {
+    if (!StringUtils.hasText(fileUrl)) {
+      return null;
+    }
+    String prefix = directPrefix(owner);
+    String prefixUrl = url(prefix);
+    if (!fileUrl.startsWith(prefixUrl)) {
+      return null;
+    }
+    String name = fileUrl.substring(prefixUrl.length());
+    if (!DIRECT_UPLOAD_NAME.matcher(name).matches()) {
+      return null;
+    }
+    HeadObjectResponse head = head(prefix + name);
+    if (head == null || head.contentLength() > maxSizeBytes) {
+      return null;
+    }
+    return url(prefix + name);
+  }
+
+  /**
+   * 요청자별 직접 업로드 키 접두사 (요청자 값은 이메일 등이므로 해시로만 남김)
+   */
+  private String directPrefix(String owner) {
+    byte[] digest = LocalFileStorageService.sha256().digest(owner.getBytes(StandardCharsets.UTF_8));
+    return keyPrefix + "direct/" + HexFormat.of().formatHex(digest, 0, 16) + "/";
+  }
+
+  private boolean exists(String key) {
+    return head(key) != null;
+  }
+
+  private HeadObjectResponse head(String key) {
+    try {
+      return s3Client.headObject(r -> r.bucket(bucket).key(key));
+    } catch (NoSuchKeyException e) {
+      return null;
+    }
+  }
+
+  /**
+   * 공개 URL (file.s3.public-url 이 있으면 CDN 등 그 주소 기준, 없으면 버킷 URL)
+   */
+  private String url(String key) {
+    if (StringUtils.hasText(publicUrl)) {
+      return publicUrl + "/" + key;
+    }
+    return s3Client.utilities().getUrl(r -> r.bucket(bucket).key(key)).toString();
+  }
+
+  private static String hash(MultipartFile file) throws IOException {
+    MessageDigest digest = LocalFileStorageService.sha256();
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = file.getInputStream()) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 최대 length 바이트까지만 읽는 스트림 (닫으면 원본도 닫힘)
+   */
+  private static final class BoundedInputStream extends InputStream {
+
+    private final InputStream in;
+    private long remaining;
+
+    BoundedInputStream(InputStream in, long length) {
+      this.in = in;
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int b = in.read();
+      if (b >= 0) {
+        remaining--;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int n = in.read(b, off, (int) Math.min(len, remaining));
+      if (n > 0) {
+        remaining -= n;
+      }
+      return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.Stalk.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 캐시/저장소 키로 사용할 SHA-256 해시 생성
+ */
+public final class TokenHasher {
+
+  private TokenHasher() {
+  }
+
+  /**
+   * 토큰의 SHA-256 해시 (URL-safe Base64, 패딩 없음)
+   */
+  public static String sha256(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      // 모든 JVM 구현체는 SHA-256 을 제공해야 한다
+      throw new IllegalStateException(e);
+    }
+  }
+}
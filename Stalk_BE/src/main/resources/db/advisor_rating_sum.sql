@@ -0,0 +1,21 @@
+-- =====================================================================
+-- 전문가 평점 합계 컬럼 추가 (MySQL, 운영 DB 에 배포 전 한 번만 수동 적용)
+-- advisor_detail_info.avg_rating 은 rating_sum / review_counting 으로만 계산한다
+-- (advisor.xml#recomputeRatingAggregates). 저장된 평균에 개수를 곱해 합계를 되돌리면
+-- 반올림 오차가 누적되므로, 리뷰 증감은 합계와 개수를 함께 갱신하고 평균은 둘에서 다시 구할 것.
+-- =====================================================================
+
+ALTER TABLE advisor_detail_info
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0 AFTER review_counting;
+
+-- 기존 행 채우기 (이후에는 매일 재계산이 유지)
+UPDATE advisor_detail_info adi
+    LEFT JOIN (SELECT advisor_id,
+                      COUNT(*)    AS cnt,
+                      SUM(rating) AS rating_sum
+               FROM advisor_reviews
+               WHERE is_deleted = 0
+               GROUP BY advisor_id) r ON r.advisor_id = adi.advisor_id
+SET adi.rating_sum      = COALESCE(r.rating_sum, 0),
+    adi.review_counting = COALESCE(r.cnt, 0),
+    adi.avg_rating      = r.rating_sum / r.cnt;
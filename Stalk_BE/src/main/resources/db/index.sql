@@ -0,0 +1,79 @@
+-- =====================================================================
+-- 조회 성능용 인덱스 정의 (MySQL 8.0.13 이상, 운영 DB 에 수동 적용)
+-- 매퍼 쿼리의 WHERE / ORDER BY 와 컬럼 순서를 맞춰 두었으므로 쿼리 수정 시 함께 갱신할 것
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- 어드바이저 목록 (advisor.xml#findAllAdvisorsSummary) 키셋 페이지네이션
+-- FROM advisor_detail_info STRAIGHT_JOIN advisor, users
+-- ORDER BY COALESCE(정렬 값, 0) DESC, adi.advisor_id ASC
+--
+-- 기대 실행 계획 (EXPLAIN): adi 가 첫 행이고 key = idx_adi_review_count_keyset (평점순은 idx_adi_avg_rating_keyset),
+-- type = index 또는 range, Extra 에 "Using filesort" 없음. advisor / users 는 PRIMARY eq_ref.
+-- 커서가 있으면 정렬 식 범위 조건으로 인덱스 중간부터 읽으므로 깊은 페이지도 LIMIT 행 수만큼만 읽는다.
+-- ---------------------------------------------------------------------
+
+-- 목록은 advisor_detail_info 를 구동 테이블로 하므로 상세 정보 행이 없는 기존 전문가를 먼저 보정한다
+-- (신규 가입 전문가는 AdvisorSignupService 가 가입 시 함께 만든다)
+INSERT INTO advisor_detail_info (advisor_id)
+SELECT a.advisor_id
+FROM advisor a
+         LEFT JOIN advisor_detail_info adi ON adi.advisor_id = a.advisor_id
+WHERE adi.advisor_id IS NULL;
+
+-- 승인 전문가 ID 스냅샷 (advisor.xml#findApprovedAdvisorIds)
+CREATE INDEX idx_advisor_approved_id
+    ON advisor (is_approved, advisor_id);
+
+CREATE INDEX idx_adi_review_count_keyset
+    ON advisor_detail_info ((COALESCE(review_counting, 0)) DESC, advisor_id);
+
+CREATE INDEX idx_adi_avg_rating_keyset
+    ON advisor_detail_info ((COALESCE(avg_rating, 0.0)) DESC, advisor_id);
+
+-- 투자 성향 필터는 정렬 인덱스를 읽으면서 거른다. 성향 전용 인덱스가 있으면 옵티마이저가 그쪽을 고르고
+-- filesort 로 정렬할 수 있으므로 preferred_trade_style 단독 인덱스는 만들지 않는다.
+
+-- ---------------------------------------------------------------------
+-- 커뮤니티 글 목록 (community.xml#findCommunityPosts) 커서 페이지네이션
+-- ORDER BY created_at DESC, id DESC (전체 / 카테고리별)
+-- ---------------------------------------------------------------------
+CREATE INDEX idx_community_posts_feed
+    ON community_posts (deleted_at, created_at DESC, id DESC);
+
+CREATE INDEX idx_community_posts_category_feed
+    ON community_posts (category, deleted_at, created_at DESC, id DESC);
+
+-- ---------------------------------------------------------------------
+-- 댓글 목록 (community.xml#findCommunityPostComments) 커서 페이지네이션
+-- WHERE post_id = ? ORDER BY created_at ASC, id ASC
+-- ---------------------------------------------------------------------
+CREATE INDEX idx_community_comments_post_seek
+    ON community_comments (post_id, created_at, id);
+
+-- ---------------------------------------------------------------------
+-- 예약 내역 (reservation.xml#findReservationsByRole) 커서 페이지네이션
+-- 전문가: WHERE advisor_id = ? / 일반 사용자: WHERE user_id = ?
+-- ORDER BY created_at DESC, id DESC
+-- ---------------------------------------------------------------------
+CREATE INDEX idx_consultation_sessions_advisor_history
+    ON consultation_sessions (advisor_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_consultation_sessions_user_history
+    ON consultation_sessions (user_id, created_at DESC, id DESC);
+
+-- ---------------------------------------------------------------------
+-- 전문가 평점 재계산 (advisor.xml#recomputeRatingAggregates) / 상세 리뷰 조회
+-- ---------------------------------------------------------------------
+CREATE INDEX idx_advisor_reviews_advisor_rating
+    ON advisor_reviews (advisor_id, is_deleted, rating);
+
+-- ---------------------------------------------------------------------
+-- 사용자 ID / 닉네임 중복 확인 (DuplicateCheckMapper.xml#existsByUserId / existsByNickname)
+-- Bloom filter 가 "있을 수도 있음" 으로 판정한 경우에만 조회된다
+-- ---------------------------------------------------------------------
+CREATE INDEX idx_users_user_id
+    ON users (user_id);
+
+CREATE INDEX idx_users_nickname
+    ON users (nickname);
@@ -0,0 +1,68 @@
+package com.Stalk.project.advisor.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Stalk.project.advisor.dao.AdvisorMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ApprovedAdvisorRegistryTest {
+
+  private AdvisorMapper advisorMapper;
+
+  @BeforeEach
+  void setUp() {
+    advisorMapper = mock(AdvisorMapper.class);
+    when(advisorMapper.findApprovedAdvisorIds()).thenReturn(List.of(1L, 2L));
+  }
+
+  @Test
+  void approvedIdsComeFromSnapshotWithoutPerIdQuery() {
+    ApprovedAdvisorRegistry registry = new ApprovedAdvisorRegistry(advisorMapper, 300);
+
+    assertThat(registry.isApproved(1L)).isTrue();
+    assertThat(registry.isApproved(2L)).isTrue();
+
+    verify(advisorMapper, times(1)).findApprovedAdvisorIds();
+    verify(advisorMapper, times(0)).isAdvisorExistsAndApproved(1L);
+  }
+
+  @Test
+  void rejectedIdIsQueriedOnceUntilSnapshotReload() {
+    ApprovedAdvisorRegistry registry = new ApprovedAdvisorRegistry(advisorMapper, 300);
+
+    assertThat(registry.isApproved(99L)).isFalse();
+    assertThat(registry.isApproved(99L)).isFalse();
+    assertThat(registry.isApproved(99L)).isFalse();
+
+    verify(advisorMapper, times(1)).isAdvisorExistsAndApproved(99L);
+  }
+
+  @Test
+  void rejectedIdIsCheckedAgainAfterReload() {
+    // TTL 0: 매 조회마다 스냅샷을 다시 읽고 미승인 기록도 비운다
+    ApprovedAdvisorRegistry registry = new ApprovedAdvisorRegistry(advisorMapper, 0);
+    when(advisorMapper.isAdvisorExistsAndApproved(3L)).thenReturn(false);
+    assertThat(registry.isApproved(3L)).isFalse();
+
+    // 그 사이 승인됨
+    when(advisorMapper.findApprovedAdvisorIds()).thenReturn(List.of(1L, 2L, 3L));
+    assertThat(registry.isApproved(3L)).isTrue();
+  }
+
+  @Test
+  void idApprovedAfterSnapshotIsFoundInDb() {
+    ApprovedAdvisorRegistry registry = new ApprovedAdvisorRegistry(advisorMapper, 300);
+    when(advisorMapper.isAdvisorExistsAndApproved(5L)).thenReturn(true);
+
+    assertThat(registry.isApproved(5L)).isTrue();
+    assertThat(registry.isApproved(5L)).isTrue();
+
+    verify(advisorMapper, times(1)).isAdvisorExistsAndApproved(5L);
+  }
+}
@@ -0,0 +1,59 @@
+package com.Stalk.project.auth.duplicatecheck.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.Stalk.project.auth.duplicatecheck.dao.DuplicateCheckMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class TakenIdentifierFilterTest {
+
+  private RedisTemplate<String, String> redisTemplate;
+  private RedisMessageListenerContainer container;
+  private TakenIdentifierFilter filter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    container = mock(RedisMessageListenerContainer.class);
+    // 빈 users 테이블로 적재
+    filter = new TakenIdentifierFilter(mock(DuplicateCheckMapper.class), redisTemplate, container,
+        0.01, 1000);
+    filter.rebuild();
+  }
+
+  @Test
+  void subscribesToChannel() {
+    verify(container).addMessageListener(eq(filter), any(ChannelTopic.class));
+  }
+
+  @Test
+  void addUpdatesLocalFilterAndNotifiesOtherInstances() {
+    filter.add("newUser", "새닉네임");
+
+    assertThat(filter.mightContainUserId("NEWUSER")).isTrue();
+    assertThat(filter.mightContainNickname("새닉네임")).isTrue();
+    verify(redisTemplate).convertAndSend(TakenIdentifierFilter.CHANNEL, "newUser\n새닉네임");
+  }
+
+  @Test
+  void appliesAddsPublishedByOtherInstances() {
+    assertThat(filter.mightContainUserId("remoteUser")).isFalse();
+
+    filter.onMessage(new DefaultMessage(TakenIdentifierFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+        "remoteUser\n원격닉네임".getBytes(StandardCharsets.UTF_8)), null);
+
+    assertThat(filter.mightContainUserId("remoteUser")).isTrue();
+    assertThat(filter.mightContainNickname("원격닉네임")).isTrue();
+  }
+}
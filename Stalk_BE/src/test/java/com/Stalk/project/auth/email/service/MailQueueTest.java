@@ -0,0 +1,241 @@
+package com.Stalk.project.auth.email.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+class MailQueueTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final FakeMailSender mailSender = new FakeMailSender();
+  private MailQueue mailQueue;
+
+  @AfterEach
+  void tearDown() {
+    mailSender.release();
+    if (mailQueue != null) {
+      mailQueue.shutdown();
+    }
+  }
+
+  @Test
+  void retriesWholeBatchWithBackoffWhenConnectionFails() {
+    mailSender.failConnection(1);
+    mailQueue = newQueue(1, 5, 200);
+
+    mailQueue.enqueue("from@stalk.com", "a@test.com", "제목", "본문");
+
+    await(() -> mailSender.sendCount("a@test.com") == 2);
+    List<Long> attempts = mailSender.attemptTimes("a@test.com");
+    assertThat(attempts.get(1) - attempts.get(0)).isGreaterThanOrEqualTo(200);
+    assertThat(counter("mail.queue.retried")).isEqualTo(1);
+    assertThat(counter("mail.queue.sent")).isEqualTo(1);
+  }
+
+  @Test
+  void backoffDoublesAndMailIsDroppedAfterMaxAttempts() {
+    mailSender.failRecipient("a@test.com", Integer.MAX_VALUE);
+    mailQueue = newQueue(1, 3, 100);
+
+    mailQueue.enqueue("from@stalk.com", "a@test.com", "제목", "본문");
+
+    await(() -> counter("mail.queue.dropped") == 1);
+    List<Long> attempts = mailSender.attemptTimes("a@test.com");
+    assertThat(attempts).hasSize(3);
+    assertThat(attempts.get(1) - attempts.get(0)).isGreaterThanOrEqualTo(100);
+    assertThat(attempts.get(2) - attempts.get(1)).isGreaterThanOrEqualTo(200);
+    assertThat(counter("mail.queue.sent")).isZero();
+  }
+
+  @Test
+  void requeuesOnlyFailedMessagesOfPartiallyFailedBatch() {
+    mailQueue = newQueue(1, 5, 50);
+    // 워커를 첫 발송에서 붙잡아 두고 나머지를 한 배치로 모이게 한다
+    mailSender.holdNextSend();
+    mailQueue.enqueue("from@stalk.com", "first@test.com", "제목", "본문");
+    mailSender.awaitHeld();
+
+    mailSender.failRecipient("bad@test.com", 1);
+    mailQueue.enqueue("from@stalk.com", "ok1@test.com", "제목", "본문");
+    mailQueue.enqueue("from@stalk.com", "bad@test.com", "제목", "본문");
+    mailQueue.enqueue("from@stalk.com", "ok2@test.com", "제목", "본문");
+    mailSender.release();
+
+    await(() -> mailSender.sendCount("bad@test.com") == 2);
+    assertThat(mailSender.batches()).contains(List.of("ok1@test.com", "bad@test.com", "ok2@test.com")
+        .stream().sorted().toList());
+    assertThat(mailSender.sendCount("ok1@test.com")).isEqualTo(1);
+    assertThat(mailSender.sendCount("ok2@test.com")).isEqualTo(1);
+    assertThat(mailSender.batches().get(mailSender.batches().size() - 1))
+        .containsExactly("bad@test.com");
+    assertThat(counter("mail.queue.sent")).isEqualTo(4);
+    assertThat(counter("mail.queue.retried")).isEqualTo(1);
+  }
+
+  @Test
+  void shutdownSendsMailsStillWaitingForRetry() {
+    mailSender.failConnection(1);
+    mailQueue = newQueue(1, 5, 60_000);
+
+    mailQueue.enqueue("from@stalk.com", "a@test.com", "제목", "본문");
+    await(() -> counter("mail.queue.retried") == 1);
+
+    // 재시도 시각(1분 뒤)을 기다리지 않고 종료 시 발송
+    mailQueue.shutdown();
+    mailQueue = null;
+
+    assertThat(mailSender.sendCount("a@test.com")).isEqualTo(2);
+    assertThat(counter("mail.queue.sent")).isEqualTo(1);
+  }
+
+  @Test
+  void shutdownDoesNotRequeueFailedDrain() {
+    mailSender.failConnection(2);
+    mailQueue = newQueue(1, 5, 60_000);
+
+    mailQueue.enqueue("from@stalk.com", "a@test.com", "제목", "본문");
+    await(() -> counter("mail.queue.retried") == 1);
+
+    mailQueue.shutdown();
+    mailQueue = null;
+
+    assertThat(mailSender.sendCount("a@test.com")).isEqualTo(2);
+    assertThat(counter("mail.queue.dropped")).isEqualTo(1);
+  }
+
+  private MailQueue newQueue(int workers, int maxAttempts, long backoffMillis) {
+    return new MailQueue(mailSender, registry, workers, 100, 20, maxAttempts, backoffMillis);
+  }
+
+  private double counter(String name) {
+    return registry.counter(name).count();
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new AssertionError("조건이 10초 안에 충족되지 않음");
+      }
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  /**
+   * SMTP 대신 발송 내역을 기록하고, 지정한 수신자 / 연결 실패를 흉내 내는 발송기
+   */
+  private static class FakeMailSender extends JavaMailSenderImpl {
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, List<Long>> attempts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> recipientFailures = new ConcurrentHashMap<>();
+    private volatile int connectionFailures;
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final CountDownLatch holding = new CountDownLatch(1);
+    private volatile boolean holdNext;
+
+    void failConnection(int times) {
+      connectionFailures = times;
+    }
+
+    void failRecipient(String to, int times) {
+      recipientFailures.put(to, times);
+    }
+
+    void holdNextSend() {
+      holdNext = true;
+    }
+
+    void awaitHeld() {
+      try {
+        assertThat(holding.await(10, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void release() {
+      gate.countDown();
+    }
+
+    int sendCount(String to) {
+      return attempts.getOrDefault(to, List.of()).size();
+    }
+
+    List<Long> attemptTimes(String to) {
+      return new ArrayList<>(attempts.getOrDefault(to, List.of()));
+    }
+
+    List<List<String>> batches() {
+      synchronized (batches) {
+        return new ArrayList<>(batches);
+      }
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+      long now = System.currentTimeMillis();
+      Map<MimeMessage, String> recipients = new LinkedHashMap<>();
+      for (MimeMessage message : mimeMessages) {
+        String to = recipient(message);
+        recipients.put(message, to);
+        attempts.computeIfAbsent(to, k -> Collections.synchronizedList(new ArrayList<>())).add(now);
+      }
+      batches.add(recipients.values().stream().sorted().toList());
+
+      if (holdNext) {
+        holdNext = false;
+        holding.countDown();
+        try {
+          gate.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      if (connectionFailures > 0) {
+        connectionFailures--;
+        throw new MailSendException("connection refused");
+      }
+      Map<Object, Exception> failed = new HashMap<>();
+      recipients.forEach((message, to) -> {
+        if (recipientFailures.getOrDefault(to, 0) > 0) {
+          recipientFailures.merge(to, -1, Integer::sum);
+          failed.put(message, new MessagingException("550 rejected: " + to));
+        }
+      });
+      if (!failed.isEmpty()) {
+        throw new MailSendException(failed);
+      }
+    }
+
+    private static String recipient(MimeMessage message) {
+      try {
+        return message.getAllRecipients()[0].toString();
+      } catch (MessagingException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.Stalk.project.community.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.Stalk.project.community.dao.CommunityMapper;
+import com.Stalk.project.community.dao.PostCountDeltaDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class CommunityPostCounterTest {
+
+  private final Map<Long, AtomicLong> flushedViews = new ConcurrentHashMap<>();
+  private CommunityMapper communityMapper;
+  private CommunityPostCounter counter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    communityMapper = mock(CommunityMapper.class);
+    when(communityMapper.addViewCounts(anyList())).thenAnswer(invocation -> {
+      List<PostCountDeltaDto> deltas = invocation.getArgument(0);
+      deltas.forEach(d -> flushedViews.computeIfAbsent(d.getPostId(), id -> new AtomicLong())
+          .addAndGet(d.getDelta()));
+      return deltas.size();
+    });
+    counter = new CommunityPostCounter(communityMapper, mock(RedisTemplate.class), 500, 60_000);
+  }
+
+  @Test
+  void concurrentViewsAreNeitherLostNorDoubledWhileFlushing() throws Exception {
+    int threads = 8;
+    int viewsPerThread = 50_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      workers.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < viewsPerThread; i++) {
+          // 인기 글 하나에 몰리는 조회 + 다른 글
+          counter.incrementView(1L);
+          counter.incrementView(2L + (i % 3));
+        }
+        return null;
+      }));
+    }
+
+    start.countDown();
+    while (workers.stream().anyMatch(w -> !w.isDone())) {
+      counter.flush();
+    }
+    for (Future<?> worker : workers) {
+      worker.get(10, TimeUnit.SECONDS);
+    }
+    counter.flush();
+    executor.shutdown();
+
+    long total = (long) threads * viewsPerThread;
+    assertThat(flushedViews.get(1L)).hasValue(total);
+    assertThat(flushedViews.values().stream().mapToLong(AtomicLong::get).sum())
+        .isEqualTo(total * 2);
+    assertThat(counter.pendingViews(1L)).isZero();
+  }
+
+  @Test
+  void failedFlushKeepsDeltaForNextRun() {
+    when(communityMapper.addViewCounts(anyList()))
+        .thenThrow(new IllegalStateException("db down"))
+        .thenReturn(1);
+
+    counter.incrementView(7L);
+    counter.incrementView(7L);
+    counter.flush();
+
+    assertThat(counter.pendingViews(7L)).isEqualTo(2);
+    counter.flush();
+    assertThat(counter.pendingViews(7L)).isZero();
+  }
+}
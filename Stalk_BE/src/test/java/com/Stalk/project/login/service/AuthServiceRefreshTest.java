@@ -0,0 +1,109 @@
+package com.Stalk.project.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Stalk.project.login.dao.UserLoginMapper;
+import com.Stalk.project.login.dto.out.LoginResponse;
+import com.Stalk.project.login.util.JwtPrincipal;
+import com.Stalk.project.login.util.JwtUtil;
+import com.Stalk.project.signup.entity.User;
+import com.Stalk.project.util.TokenHasher;
+import java.time.Duration;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class AuthServiceRefreshTest {
+
+  private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+  private JwtUtil jwtUtil;
+  private RefreshTokenStore store;
+  private AuthService authService;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil(Base64.getEncoder().encodeToString(new byte[64]), ONE_HOUR, ONE_HOUR);
+
+    UserLoginMapper userLoginMapper = mock(UserLoginMapper.class);
+    when(userLoginMapper.findByUserId("user1")).thenReturn(
+        User.builder().id(1L).userId("user1").role("USER").isActive(true).build());
+
+    store = mock(RefreshTokenStore.class);
+    authService = new AuthService(userLoginMapper, jwtUtil, store,
+        mock(LastLoginRecorder.class), mock(PasswordHasher.class), mock(LoginThrottle.class));
+  }
+
+  @Test
+  void refresh_rotatesSessionAndIssuesTokenWithNewJti() {
+    String refreshToken = jwtUtil.createRefreshToken("user1", "USER", "jti-1");
+    when(store.rotate(eq("user1"), eq("jti-1"), eq(TokenHasher.sha256(refreshToken)),
+        anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+    LoginResponse response = authService.refreshAccessToken(refreshToken);
+
+    JwtPrincipal rotated = jwtUtil.parse(response.getRefreshToken());
+    assertThat(rotated.tokenId()).isNotNull().isNotEqualTo("jti-1");
+    verify(store).rotate(eq("user1"), eq("jti-1"), eq(TokenHasher.sha256(refreshToken)),
+        eq(rotated.tokenId()), eq(TokenHasher.sha256(response.getRefreshToken())),
+        any(Duration.class));
+  }
+
+  @Test
+  void refresh_rejectsTokenTheStoreRefuses() {
+    String refreshToken = jwtUtil.createRefreshToken("user1", "USER", "jti-1");
+
+    // 동시에 들어온 같은 토큰의 두 번째 요청도 이 경로 (500 이 아니라 401)
+    assertThatThrownBy(() -> authService.refreshAccessToken(refreshToken))
+        .isInstanceOfSatisfying(ResponseStatusException.class,
+            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED))
+        .hasMessageContaining("not found or mismatched");
+  }
+
+  @Test
+  void refresh_acceptsLegacyTokenOnceAndMovesItToASession() {
+    // jti 없이 발급된 (배포 이전) 토큰
+    String legacyToken = jwtUtil.createRefreshToken("user1", "USER", null);
+    when(store.consumeLegacy("user1", legacyToken)).thenReturn(true, false);
+
+    LoginResponse response = authService.refreshAccessToken(legacyToken);
+
+    JwtPrincipal issued = jwtUtil.parse(response.getRefreshToken());
+    assertThat(issued.tokenId()).isNotNull();
+    verify(store).save(eq("user1"), eq(issued.tokenId()),
+        eq(TokenHasher.sha256(response.getRefreshToken())), any(Duration.class));
+
+    // 두 번째 사용은 거절
+    assertThatThrownBy(() -> authService.refreshAccessToken(legacyToken))
+        .hasMessageContaining("not found or mismatched");
+  }
+
+  @Test
+  void logout_revokesOnlyTheTokenSession() {
+    String refreshToken = jwtUtil.createRefreshToken("user1", "USER", "jti-1");
+
+    authService.logout(refreshToken);
+
+    verify(store).revoke("user1", "jti-1");
+    verify(store, never()).consumeLegacy(anyString(), anyString());
+  }
+
+  @Test
+  void logout_consumesLegacyToken() {
+    String legacyToken = jwtUtil.createRefreshToken("user1", "USER", null);
+
+    authService.logout(legacyToken);
+
+    verify(store).consumeLegacy("user1", legacyToken);
+  }
+}
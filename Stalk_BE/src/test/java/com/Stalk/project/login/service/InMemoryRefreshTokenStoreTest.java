@@ -0,0 +1,67 @@
+package com.Stalk.project.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+  private static final Duration TTL = Duration.ofHours(1);
+
+  private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+  @Test
+  void rotate_replacesSessionToken() {
+    store.save("user1", "jti-1", "hash-1", TTL);
+
+    assertThat(store.rotate("user1", "jti-1", "hash-1", "jti-2", "hash-2", TTL)).isTrue();
+
+    // 새 토큰으로 다시 회전 가능
+    assertThat(store.rotate("user1", "jti-2", "hash-2", "jti-3", "hash-3", TTL)).isTrue();
+  }
+
+  @Test
+  void rotate_rejectsReuseOfRotatedToken() {
+    store.save("user1", "jti-1", "hash-1", TTL);
+    assertThat(store.rotate("user1", "jti-1", "hash-1", "jti-2", "hash-2", TTL)).isTrue();
+
+    // 이미 사용한 토큰 재사용
+    assertThat(store.rotate("user1", "jti-1", "hash-1", "jti-x", "hash-x", TTL)).isFalse();
+    // 재사용 시도가 정상 세션을 건드리지 않음
+    assertThat(store.rotate("user1", "jti-2", "hash-2", "jti-3", "hash-3", TTL)).isTrue();
+  }
+
+  @Test
+  void rotate_rejectsMismatchedHashOrOtherUser() {
+    store.save("user1", "jti-1", "hash-1", TTL);
+
+    assertThat(store.rotate("user1", "jti-1", "forged", "jti-2", "hash-2", TTL)).isFalse();
+    assertThat(store.rotate("user2", "jti-1", "hash-1", "jti-2", "hash-2", TTL)).isFalse();
+    assertThat(store.rotate("user1", "jti-1", "hash-1", "jti-2", "hash-2", TTL)).isTrue();
+  }
+
+  @Test
+  void rotate_rejectsExpiredToken() {
+    store.save("user1", "jti-1", "hash-1", Duration.ZERO);
+
+    assertThat(store.rotate("user1", "jti-1", "hash-1", "jti-2", "hash-2", TTL)).isFalse();
+  }
+
+  @Test
+  void revoke_logsOutOnlyThatSession() {
+    store.save("user1", "phone", "hash-phone", TTL);
+    store.save("user1", "laptop", "hash-laptop", TTL);
+
+    assertThat(store.revoke("user1", "phone")).isTrue();
+    assertThat(store.revoke("user1", "phone")).isFalse();
+
+    assertThat(store.rotate("user1", "phone", "hash-phone", "jti-2", "hash-2", TTL)).isFalse();
+    assertThat(store.rotate("user1", "laptop", "hash-laptop", "jti-3", "hash-3", TTL)).isTrue();
+  }
+
+  @Test
+  void consumeLegacy_hasNothingToConsume() {
+    assertThat(store.consumeLegacy("user1", "legacy-token")).isFalse();
+  }
+}
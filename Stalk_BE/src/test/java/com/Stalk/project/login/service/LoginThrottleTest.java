@@ -0,0 +1,57 @@
+package com.Stalk.project.login.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class LoginThrottleTest {
+
+  // 실패 3회, IP 당 시도 100회 (리필 없음)
+  private final LoginThrottle throttle = new LoginThrottle(new SimpleMeterRegistry(), 3, 0, 100, 0);
+
+  @Test
+  void successfulAttemptsDoNotUseFailureBudget() {
+    for (int i = 0; i < 10; i++) {
+      throttle.acquire("user1", "10.0.0.1");
+      throttle.recordSuccess("user1", "10.0.0.1");
+    }
+    assertThatCode(() -> throttle.acquire("user1", "10.0.0.1")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void failuresLockOnlyTheFailingClient() {
+    for (int i = 0; i < 3; i++) {
+      throttle.acquire("victim", "203.0.113.9");
+      throttle.recordFailure("victim", "203.0.113.9");
+    }
+
+    assertThatThrownBy(() -> throttle.acquire("victim", "203.0.113.9"))
+        .isInstanceOf(ResponseStatusException.class);
+    // 같은 ID 라도 다른 IP (실제 사용자) 는 잠기지 않음
+    assertThatCode(() -> throttle.acquire("victim", "10.0.0.1")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void successClearsFailures() {
+    throttle.recordFailure("user1", "10.0.0.1");
+    throttle.recordFailure("user1", "10.0.0.1");
+    throttle.recordSuccess("user1", "10.0.0.1");
+    throttle.recordFailure("user1", "10.0.0.1");
+    throttle.recordFailure("user1", "10.0.0.1");
+
+    assertThatCode(() -> throttle.acquire("user1", "10.0.0.1")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void ipBucketLimitsEveryAttempt() {
+    LoginThrottle strict = new LoginThrottle(new SimpleMeterRegistry(), 3, 0, 2, 0);
+    strict.acquire("a", "10.0.0.1");
+    strict.acquire("b", "10.0.0.1");
+
+    assertThatThrownBy(() -> strict.acquire("c", "10.0.0.1"))
+        .isInstanceOf(ResponseStatusException.class);
+  }
+}
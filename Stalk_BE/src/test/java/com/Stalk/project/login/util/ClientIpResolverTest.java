@@ -0,0 +1,47 @@
+package com.Stalk.project.login.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+  private final ClientIpResolver resolver =
+      new ClientIpResolver(new String[]{"127.0.0.1", "::1", "172.18.0.0/16"});
+
+  @Test
+  void usesRealIpHeaderFromTrustedProxy() {
+    assertThat(resolver.resolve(request("172.18.0.5", "198.51.100.7"))).isEqualTo("198.51.100.7");
+    assertThat(resolver.resolve(request("127.0.0.1", " 198.51.100.7 "))).isEqualTo("198.51.100.7");
+  }
+
+  @Test
+  void ignoresRealIpHeaderFromUntrustedClient() {
+    assertThat(resolver.resolve(request("203.0.113.9", "198.51.100.7"))).isEqualTo("203.0.113.9");
+  }
+
+  @Test
+  void fallsBackToRemoteAddrWithoutHeader() {
+    assertThat(resolver.resolve(request("172.18.0.5", null))).isEqualTo("172.18.0.5");
+  }
+
+  @Test
+  void trustsResolvedHostNames() {
+    ClientIpResolver byHost = new ClientIpResolver(new String[]{"localhost"});
+    assertThat(byHost.resolve(request("127.0.0.1", "198.51.100.7"))).isEqualTo("127.0.0.1");
+
+    byHost.refreshHostAddresses();
+
+    assertThat(byHost.resolve(request("127.0.0.1", "198.51.100.7"))).isEqualTo("198.51.100.7");
+  }
+
+  private static MockHttpServletRequest request(String remoteAddr, String realIp) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(remoteAddr);
+    if (realIp != null) {
+      request.addHeader("X-Real-IP", realIp);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,152 @@
+package com.Stalk.project.openvidu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.Stalk.project.openvidu.dto.out.SessionTokenResponseDto;
+import com.Stalk.project.openvidu.service.ConsultationSessionRegistry.SessionEntry;
+import io.openvidu.java.client.Connection;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.OpenViduHttpException;
+import io.openvidu.java.client.Session;
+import io.openvidu.java.client.SessionProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * OpenVidu 를 스텁으로 바꿔 상담방 생성 동시성 검증
+ */
+class ConsultationSessionServiceTest {
+
+  private static final int JOINS = 8;
+
+  private OpenVidu openVidu;
+  private ConsultationSessionService service;
+  private ExecutorService executor;
+
+  // customSessionId → createSession 호출 횟수
+  private final Map<String, AtomicInteger> createCalls = new ConcurrentHashMap<>();
+  // 등록 정보 (Redis 대신)
+  private final Map<String, SessionEntry> registered = new ConcurrentHashMap<>();
+  // 이 latch 가 열릴 때까지 consultation_blocked 생성이 멈춘다
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final CountDownLatch blockedCreateEntered = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    openVidu = mock(OpenVidu.class);
+    when(openVidu.createSession(any(SessionProperties.class))).thenAnswer(invocation -> {
+      String sessionId = invocation.<SessionProperties>getArgument(0).customSessionId();
+      createCalls.computeIfAbsent(sessionId, id -> new AtomicInteger()).incrementAndGet();
+      if (sessionId.equals("consultation_blocked")) {
+        blockedCreateEntered.countDown();
+        assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+      }
+      return session(sessionId);
+    });
+
+    ConsultationSessionRegistry registry = mock(ConsultationSessionRegistry.class);
+    when(registry.find(anyString())).thenAnswer(invocation -> registered.get(invocation.getArgument(0)));
+    when(registry.registerIfAbsent(anyString(), any(SessionEntry.class))).thenAnswer(invocation -> {
+      SessionEntry entry = invocation.getArgument(1);
+      SessionEntry existing = registered.putIfAbsent(invocation.getArgument(0), entry);
+      return existing != null ? existing : entry;
+    });
+
+    service = new ConsultationSessionService(openVidu, registry);
+    executor = Executors.newFixedThreadPool(JOINS + 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentJoinsShareOneCreateWithoutBlockingOtherConsultations() throws Exception {
+    List<Future<SessionTokenResponseDto>> joins = new ArrayList<>();
+    for (int i = 0; i < JOINS; i++) {
+      joins.add(executor.submit(() -> service.createSessionAndGetToken("blocked")));
+    }
+    assertThat(blockedCreateEntered.await(5, TimeUnit.SECONDS)).isTrue();
+    awaitWaiters("blocked", JOINS - 1);
+
+    // 다른 상담방은 생성 중인 상담방과 무관하게 바로 진행
+    SessionTokenResponseDto other = executor.submit(() -> service.createSessionAndGetToken("other"))
+        .get(5, TimeUnit.SECONDS);
+    assertThat(other.getSessionId()).isEqualTo("consultation_other");
+    assertThat(joins).noneMatch(Future::isDone);
+
+    release.countDown();
+    for (Future<SessionTokenResponseDto> join : joins) {
+      assertThat(join.get(5, TimeUnit.SECONDS).getSessionId()).isEqualTo("consultation_blocked");
+    }
+    assertThat(createCalls.get("consultation_blocked")).hasValue(1);
+    assertThat(createCalls.get("consultation_other")).hasValue(1);
+    assertThat(pendingCreations()).isEmpty();
+  }
+
+  @Test
+  void failedCreateIsNotCachedAndNextJoinRetries() throws Exception {
+    OpenViduHttpException failure = mock(OpenViduHttpException.class);
+    when(failure.getStatus()).thenReturn(500);
+    doThrow(failure)
+        .doAnswer(invocation -> session(invocation.<SessionProperties>getArgument(0).customSessionId()))
+        .when(openVidu).createSession(any(SessionProperties.class));
+
+    assertThatThrownBy(() -> service.createSessionAndGetToken("retry")).isSameAs(failure);
+    assertThat(pendingCreations()).isEmpty();
+
+    SessionTokenResponseDto response = service.createSessionAndGetToken("retry");
+    assertThat(response.getSessionId()).isEqualTo("consultation_retry");
+    assertThat(response.getToken()).isEqualTo("token-consultation_retry");
+  }
+
+  /**
+   * 생성 작업을 기다리는 요청이 count 개가 될 때까지 대기
+   */
+  private void awaitWaiters(String consultationId, int count) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      CompletableFuture<?> inFlight = pendingCreations().get(consultationId);
+      if (inFlight != null && inFlight.getNumberOfDependents() >= count) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("대기 중인 요청이 " + count + "개가 되지 않았습니다.");
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, CompletableFuture<?>> pendingCreations() {
+    return (Map<String, CompletableFuture<?>>) ReflectionTestUtils.getField(service, "pendingCreations");
+  }
+
+  private static Session session(String sessionId) throws Exception {
+    Connection connection = mock(Connection.class);
+    when(connection.getToken()).thenReturn("token-" + sessionId);
+    Session session = mock(Session.class);
+    when(session.getSessionId()).thenReturn(sessionId);
+    when(session.createConnection(any())).thenReturn(connection);
+    return session;
+  }
+}
@@ -0,0 +1,110 @@
+package com.Stalk.project.upload.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Stalk.project.auth.email.service.EmailVerificationStore;
+import com.Stalk.project.response.BaseResponse;
+import com.Stalk.project.response.BaseResponseStatus;
+import com.Stalk.project.upload.dto.in.PresignedUploadRequestDto;
+import com.Stalk.project.upload.dto.out.PresignedUploadResponseDto;
+import com.Stalk.project.upload.service.PresignRateLimiter;
+import com.Stalk.project.upload.service.PresignedUploadService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+class PresignedUploadControllerTest {
+
+  private PresignedUploadService service;
+  private EmailVerificationStore emailVerificationStore;
+  private PresignRateLimiter rateLimiter;
+  private ObjectProvider<PresignedUploadService> provider;
+  private PresignedUploadController controller;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    service = mock(PresignedUploadService.class);
+    emailVerificationStore = mock(EmailVerificationStore.class);
+    rateLimiter = mock(PresignRateLimiter.class);
+    provider = mock(ObjectProvider.class);
+    when(provider.getIfAvailable()).thenReturn(service);
+    when(rateLimiter.tryAcquire(anyString())).thenReturn(true);
+    when(service.presignUpload(any(), anyString())).thenReturn(new PresignedUploadResponseDto());
+    controller = new PresignedUploadController(provider, emailVerificationStore, rateLimiter);
+  }
+
+  @Test
+  void rejectsAnonymousRequestWithoutVerifiedEmail() {
+    PresignedUploadRequestDto request = request(null);
+
+    assertThat(controller.presign(request, null).code())
+        .isEqualTo(BaseResponseStatus.NO_SIGN_IN.getCode());
+
+    request.setSignupEmail("advisor@example.com");
+    assertThat(controller.presign(request, null).code())
+        .isEqualTo(BaseResponseStatus.NO_SIGN_IN.getCode());
+    verify(service, never()).presignUpload(any(), anyString());
+  }
+
+  @Test
+  void issuesForLoggedInUser() {
+    BaseResponse<PresignedUploadResponseDto> response = controller.presign(request(null),
+        new UsernamePasswordAuthenticationToken("user1", null, List.of()));
+
+    assertThat(response.isSuccess()).isTrue();
+    verify(service).presignUpload(any(), eq("user:user1"));
+  }
+
+  @Test
+  void issuesForVerifiedSignupEmail() {
+    when(emailVerificationStore.isVerified("Advisor@Example.com")).thenReturn(true);
+
+    BaseResponse<PresignedUploadResponseDto> response =
+        controller.presign(request("Advisor@Example.com"), null);
+
+    assertThat(response.isSuccess()).isTrue();
+    verify(service).presignUpload(any(),
+        eq("signup:advisor@example.com"));
+  }
+
+  @Test
+  void rejectsWhenRateLimited() {
+    when(rateLimiter.tryAcquire("user:user1")).thenReturn(false);
+
+    BaseResponse<PresignedUploadResponseDto> response = controller.presign(request(null),
+        new UsernamePasswordAuthenticationToken("user1", null, List.of()));
+
+    assertThat(response.code()).isEqualTo(BaseResponseStatus.PRESIGN_RATE_LIMITED.getCode());
+    verify(service, never()).presignUpload(any(), anyString());
+  }
+
+  @Test
+  void reportsNotSupportedWithoutObjectStorage() {
+    when(provider.getIfAvailable()).thenReturn(null);
+
+    BaseResponse<PresignedUploadResponseDto> response = controller.presign(request(null),
+        new UsernamePasswordAuthenticationToken("user1", null, List.of()));
+
+    assertThat(response.code())
+        .isEqualTo(BaseResponseStatus.PRESIGNED_UPLOAD_NOT_SUPPORTED.getCode());
+  }
+
+  private static PresignedUploadRequestDto request(String signupEmail) {
+    PresignedUploadRequestDto request = new PresignedUploadRequestDto();
+    request.setFileName("profile.png");
+    request.setContentType("image/png");
+    request.setContentLength(1024L);
+    request.setSignupEmail(signupEmail);
+    return request;
+  }
+}
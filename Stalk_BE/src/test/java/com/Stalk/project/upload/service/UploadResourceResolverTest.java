@@ -0,0 +1,77 @@
+package com.Stalk.project.upload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Stalk.project.util.ImageDerivativeService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UploadResourceResolverTest {
+
+  private static final String HASH = "ab".repeat(32);
+  private static final String THUMBNAIL = "ab/cd/" + HASH + ImageDerivativeService.THUMBNAIL_SUFFIX;
+
+  @TempDir
+  Path uploadDir;
+
+  private ImageDerivativeService imageDerivativeService;
+  private UploadResourceResolver resolver;
+  private Path original;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    imageDerivativeService = mock(ImageDerivativeService.class);
+    resolver = new UploadResourceResolver(imageDerivativeService, uploadDir.toString(), 100);
+    Files.createDirectories(uploadDir.resolve("ab/cd"));
+    original = Files.write(uploadDir.resolve("ab/cd/" + HASH + ".png"), new byte[]{1, 2, 3});
+  }
+
+  @Test
+  void servesOriginalWhileThumbnailIsPending() {
+    when(imageDerivativeService.requestThumbnail(original)).thenReturn(new CompletableFuture<>());
+
+    UploadResource resource = resolver.resolve(THUMBNAIL);
+
+    assertThat(resource.file()).isEqualTo(original);
+    assertThat(resource.immutable()).isFalse();
+    verify(imageDerivativeService).requestThumbnail(original);
+  }
+
+  @Test
+  void servesOriginalWhenQueueIsFull() {
+    when(imageDerivativeService.requestThumbnail(original)).thenReturn(null);
+
+    UploadResource resource = resolver.resolve(THUMBNAIL);
+
+    assertThat(resource.file()).isEqualTo(original);
+    assertThat(resource.immutable()).isFalse();
+  }
+
+  @Test
+  void servesThumbnailOnceGenerated() throws Exception {
+    when(imageDerivativeService.requestThumbnail(original)).thenReturn(new CompletableFuture<>());
+    resolver.resolve(THUMBNAIL);
+
+    // 워커가 썸네일을 만든 뒤의 요청 (원본 응답은 캐시되지 않았어야 함)
+    Path thumbnail = Files.write(uploadDir.resolve(THUMBNAIL), new byte[]{4, 5});
+    UploadResource resource = resolver.resolve(THUMBNAIL);
+
+    assertThat(resource.file()).isEqualTo(thumbnail);
+    assertThat(resource.immutable()).isTrue();
+    assertThat(resource.etag()).isEqualTo("\"" + HASH + "_thumb\"");
+  }
+
+  @Test
+  void returnsNullWithoutOriginal() throws Exception {
+    Files.delete(original);
+
+    assertThat(resolver.resolve(THUMBNAIL)).isNull();
+  }
+}
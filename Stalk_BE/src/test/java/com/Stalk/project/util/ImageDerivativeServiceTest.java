@@ -0,0 +1,95 @@
+package com.Stalk.project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageDerivativeServiceTest {
+
+  @TempDir
+  Path dir;
+
+  private ImageDerivativeService service;
+
+  @AfterEach
+  void tearDown() {
+    if (service != null) {
+      service.shutdown();
+    }
+  }
+
+  @Test
+  void createsThumbnailOnWorkerAndReusesExistingFile() throws Exception {
+    service = new ImageDerivativeService(50, 1, 10);
+    Path original = image("a.png", 400, 200);
+
+    Path thumbnail = service.requestThumbnail(original).get(10, TimeUnit.SECONDS);
+
+    assertThat(thumbnail).isEqualTo(dir.resolve("a" + ImageDerivativeService.THUMBNAIL_SUFFIX));
+    BufferedImage written = ImageIO.read(thumbnail.toFile());
+    assertThat(written.getWidth()).isEqualTo(50);
+    assertThat(written.getHeight()).isEqualTo(25);
+
+    CompletableFuture<Path> again = service.requestThumbnail(original);
+    assertThat(again).isCompletedWithValue(thumbnail);
+  }
+
+  @Test
+  void completesWithNullForNonImages() throws Exception {
+    service = new ImageDerivativeService(50, 1, 10);
+    Path text = Files.writeString(dir.resolve("notes.txt"), "hello");
+
+    assertThat(service.requestThumbnail(text)).isCompletedWithValue(null);
+  }
+
+  @Test
+  void sharesInFlightWorkAndRejectsWhenQueueIsFull() throws Exception {
+    // 워커 1개, 대기열 1칸
+    service = new ImageDerivativeService(50, 1, 1);
+    List<Path> originals = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      originals.add(image("big" + i + ".png", 2500, 2500));
+    }
+
+    List<CompletableFuture<Path>> accepted = new ArrayList<>();
+    int rejected = 0;
+    for (Path original : originals) {
+      CompletableFuture<Path> future = service.requestThumbnail(original);
+      if (future == null) {
+        rejected++;
+        continue;
+      }
+      // 진행 중인 같은 원본 요청은 같은 작업을 공유
+      CompletableFuture<Path> duplicate = service.requestThumbnail(original);
+      assertThat(duplicate == future || duplicate.isDone()).isTrue();
+      accepted.add(future);
+    }
+
+    assertThat(rejected).isPositive();
+    for (CompletableFuture<Path> future : accepted) {
+      assertThat(future.get(30, TimeUnit.SECONDS)).exists();
+    }
+  }
+
+  private Path image(String name, int width, int height) throws Exception {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < width; x += 7) {
+      for (int y = 0; y < height; y += 5) {
+        image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+      }
+    }
+    Path file = dir.resolve(name);
+    ImageIO.write(image, "png", file.toFile());
+    return file;
+  }
+}
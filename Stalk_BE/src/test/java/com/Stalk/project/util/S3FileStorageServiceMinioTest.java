@@ -0,0 +1,168 @@
+package com.Stalk.project.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.Stalk.project.upload.dto.in.PresignedUploadRequestDto;
+import com.Stalk.project.upload.dto.out.PresignedUploadResponseDto;
+import com.Stalk.project.upload.service.PresignedUploadService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * MinIO 컨테이너를 S3 대신 사용한 저장/멀티파트/직접 업로드 왕복 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3FileStorageServiceMinioTest {
+
+  private static final String BUCKET = "stalk-test";
+  private static final long PART_SIZE = 5L * 1024 * 1024;
+  private static final long MAX_SIZE = 20L * 1024 * 1024;
+
+  @Container
+  static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+  private static S3Client s3Client;
+  private static S3Presigner s3Presigner;
+  private static S3FileStorageService storage;
+
+  @BeforeAll
+  static void setUp() {
+    URI endpoint = URI.create(MINIO.getS3URL());
+    StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+        AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword()));
+    s3Client = S3Client.builder()
+        .region(Region.US_EAST_1)
+        .endpointOverride(endpoint)
+        .credentialsProvider(credentials)
+        .forcePathStyle(true)
+        .build();
+    s3Presigner = S3Presigner.builder()
+        .region(Region.US_EAST_1)
+        .endpointOverride(endpoint)
+        .credentialsProvider(credentials)
+        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+        .build();
+    s3Client.createBucket(r -> r.bucket(BUCKET));
+
+    storage = new S3FileStorageService(s3Client, s3Presigner, BUCKET, "uploads/", "",
+        PART_SIZE, MAX_SIZE, 600);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    if (s3Client != null) {
+      s3Client.close();
+      s3Presigner.close();
+    }
+  }
+
+  @Test
+  void storesSmallFileWithSinglePutUnderContentHashKey() {
+    byte[] content = randomBytes(1024, 1);
+
+    String url = storage.store(new MockMultipartFile("file", "profile.png", "image/png", content));
+
+    assertThat(url).matches(".*/uploads/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.png$");
+    assertThat(read(url)).isEqualTo(content);
+  }
+
+  @Test
+  void storesLargeFileWithMultipartAndSkipsDuplicateUpload() {
+    // 5MB 파트 3개 (마지막은 1MB)
+    byte[] content = randomBytes((int) (PART_SIZE * 2 + 1024 * 1024), 2);
+    MockMultipartFile file = new MockMultipartFile("file", "doc.pdf", "application/pdf", content);
+
+    String url = storage.store(file);
+    assertThat(read(url)).isEqualTo(content);
+
+    assertThat(storage.store(file)).isEqualTo(url);
+    assertThat(s3Client.listMultipartUploads(r -> r.bucket(BUCKET)).uploads()).isEmpty();
+  }
+
+  @Test
+  void presignedUploadIsAcceptedOnlyForItsOwnerAfterUpload() throws Exception {
+    String owner = PresignedUploadService.signupOwner("Advisor@Example.com");
+    byte[] content = randomBytes(2048, 3);
+    PresignedUploadResponseDto presigned = storage.presignUpload(request(content.length), owner);
+
+    // 아직 올리지 않은 파일
+    assertThat(storage.verifyUploadedFile(presigned.getFileUrl(), owner)).isNull();
+
+    HttpRequest.Builder put = HttpRequest.newBuilder(URI.create(presigned.getUploadUrl()))
+        .PUT(HttpRequest.BodyPublishers.ofByteArray(content));
+    presigned.getHeaders().forEach((name, value) -> {
+      // Content-Length 는 HttpClient 가 본문 크기로 직접 설정
+      if (!"content-length".equalsIgnoreCase(name)) {
+        put.header(name, value);
+      }
+    });
+    HttpResponse<String> response = HttpClient.newHttpClient()
+        .send(put.build(), HttpResponse.BodyHandlers.ofString());
+    assertThat(response.statusCode()).isEqualTo(200);
+
+    assertThat(storage.verifyUploadedFile(presigned.getFileUrl(), owner))
+        .isEqualTo(presigned.getFileUrl());
+    assertThat(storage.verifyUploadedFile(presigned.getFileUrl(),
+        PresignedUploadService.signupOwner("advisor@example.com"))).isEqualTo(presigned.getFileUrl());
+    assertThat(read(presigned.getFileUrl())).isEqualTo(content);
+
+    // 다른 요청자, 다른 키
+    assertThat(storage.verifyUploadedFile(presigned.getFileUrl(),
+        PresignedUploadService.signupOwner("other@example.com"))).isNull();
+    assertThat(storage.verifyUploadedFile(presigned.getFileUrl() + "x", owner)).isNull();
+  }
+
+  @Test
+  void presignedUploadRejectsDifferentSize() throws Exception {
+    String owner = PresignedUploadService.userOwner("user1");
+    PresignedUploadResponseDto presigned = storage.presignUpload(request(100), owner);
+
+    HttpRequest.Builder put = HttpRequest.newBuilder(URI.create(presigned.getUploadUrl()))
+        .PUT(HttpRequest.BodyPublishers.ofByteArray(randomBytes(200, 4)));
+    presigned.getHeaders().forEach((name, value) -> {
+      if (!"content-length".equalsIgnoreCase(name)) {
+        put.header(name, value);
+      }
+    });
+    HttpResponse<String> response = HttpClient.newHttpClient()
+        .send(put.build(), HttpResponse.BodyHandlers.ofString());
+
+    assertThat(response.statusCode()).isGreaterThanOrEqualTo(400);
+    assertThat(storage.verifyUploadedFile(presigned.getFileUrl(), owner)).isNull();
+  }
+
+  private static PresignedUploadRequestDto request(long size) {
+    PresignedUploadRequestDto request = new PresignedUploadRequestDto();
+    request.setFileName("profile.png");
+    request.setContentType("image/png");
+    request.setContentLength(size);
+    return request;
+  }
+
+  private static byte[] read(String url) {
+    String key = url.substring(url.indexOf("/" + BUCKET + "/") + BUCKET.length() + 2);
+    return s3Client.getObjectAsBytes(r -> r.bucket(BUCKET).key(key)).asByteArray();
+  }
+
+  private static byte[] randomBytes(int size, long seed) {
+    byte[] bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -3,6 +3,8 @@ import { SignupFormData, User, LoginRequest, LoginResponse, BaseApiResponse } fr
 // 전역 변수 선언
 let accessToken: string | null = null;
 let userInfo: any = null;
+// 진행 중인 토큰 갱신 (동시에 들어온 갱신 요청은 이 결과를 함께 기다린다)
+let refreshInFlight: Promise<string | null> | null = null;
 
 // Vite 프록시를 통한 상대 경로 사용
 const API_BASE_URL = '/api';
@@ -313,14 +315,26 @@ class AuthService {
   }
 
   // 토큰 갱신 (백엔드 스펙에 맞춰 refreshToken 전송)
-  static async refreshToken(): Promise<string | null> {
+  // refresh token 은 한 번만 쓸 수 있으므로 (서버에서 회전) 동시에 호출돼도 요청은 하나만 보낸다
+  // (React StrictMode 의 effect 2회 실행, 여러 API 의 동시 401 등)
+  static refreshToken(): Promise<string | null> {
+    if (!refreshInFlight) {
+      refreshInFlight = this.requestTokenRefresh().finally(() => {
+        refreshInFlight = null;
+      });
+    }
+    return refreshInFlight;
+  }
+
+  // 실제 갱신 요청 (retried: 다른 탭이 회전한 토큰으로 이미 한 번 다시 시도했는지)
+  private static async requestTokenRefresh(retried = false): Promise<string | null> {
+    // ❌ 문제: 메모리에만 저장된 refresh token이 새로고침 시 사라짐
+    // 현재 로그인 응답에서 받은 refresh token을 어디에 저장해야 하는가?
+
+    // 임시: localStorage에서 refresh token 가져오기 (보안 위험)
+    const storedRefreshToken = localStorage.getItem('refreshToken');
+
     try {
-      // ❌ 문제: 메모리에만 저장된 refresh token이 새로고침 시 사라짐
-      // 현재 로그인 응답에서 받은 refresh token을 어디에 저장해야 하는가?
-      
-      // 임시: localStorage에서 refresh token 가져오기 (보안 위험)
-      const storedRefreshToken = localStorage.getItem('refreshToken');
-      
       if (!storedRefreshToken) {
         console.warn('저장된 refresh token이 없습니다. 로그인이 필요합니다.');
         return null;
@@ -348,24 +362,33 @@ class AuthService {
         });
         
         if (response.status === 401 || response.status === 403) {
+          // 그 사이 다른 탭이 같은 토큰으로 먼저 갱신해 새 토큰을 저장했다면 지우지 말고 그 토큰으로 다시 시도
+          const currentRefreshToken = localStorage.getItem('refreshToken');
+          if (currentRefreshToken && currentRefreshToken !== storedRefreshToken) {
+            return retried ? null : this.requestTokenRefresh(true);
+          }
           // Refresh token이 만료되거나 유효하지 않음
-          localStorage.removeItem('refreshToken');
+          this.removeRefreshTokenIfUnchanged(storedRefreshToken);
           console.warn('Refresh token이 만료되었습니다. 다시 로그인해주세요.');
         }
         
         throw new Error(`토큰 갱신 실패: HTTP ${response.status}`);
       }
 
-      // 백엔드에서 새로운 access token만 반환한다고 가정
-      const newAccessToken = await response.text(); // String 응답
+      // 새 access token + 회전된 refresh token (기존 refresh token은 서버에서 폐기됨)
+      const tokens: { accessToken?: string; refreshToken?: string } = await response.json();
       
       console.log('토큰 갱신 성공:', {
-        hasNewToken: !!newAccessToken
+        hasNewToken: !!tokens.accessToken
       });
 
-      if (newAccessToken && newAccessToken.trim()) {
+      if (tokens.refreshToken) {
+        localStorage.setItem('refreshToken', tokens.refreshToken);
+      }
+
+      if (tokens.accessToken && tokens.accessToken.trim()) {
         // 새로운 Access Token을 메모리에 저장
-        accessToken = newAccessToken.trim();
+        accessToken = tokens.accessToken.trim();
         return accessToken;
       }
       
@@ -379,12 +402,19 @@ class AuthService {
         return null;
       }
       
-      // 토큰 갱신 실패 시 저장된 refresh token 제거
-      localStorage.removeItem('refreshToken');
+      // 토큰 갱신 실패 시 보낸 refresh token 제거 (그 사이 새로 저장된 토큰은 유지)
+      this.removeRefreshTokenIfUnchanged(storedRefreshToken);
       return null;
     }
   }
 
+  // 저장된 refresh token 이 보낸 토큰과 같을 때만 제거
+  private static removeRefreshTokenIfUnchanged(sentRefreshToken: string | null): void {
+    if (localStorage.getItem('refreshToken') === sentRefreshToken) {
+      localStorage.removeItem('refreshToken');
+    }
+  }
+
   // 인증된 API 요청 헬퍼 (토큰 갱신 포함)
   static async authenticatedRequest(url: string, options: any = {}) {
     let token = accessToken;